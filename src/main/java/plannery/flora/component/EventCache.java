@@ -0,0 +1,219 @@
+package plannery.flora.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plannery.flora.component.EventIntervalTree.Span;
+import plannery.flora.entity.EventEntity;
+import plannery.flora.repository.EventRepository;
+
+/**
+ * 회원별 이벤트 캐시 : 첫 조회 시 회원의 반복하지 않는 이벤트로 구간 트리를 만들고 반복 이벤트 규칙과 함께 보관, 이벤트 생성 / 수정 / 삭제는
+ * 트랜잭션 커밋 후 반영
+ * <p>
+ * 변경은 현재 서버의 캐시에 바로 반영하고 Redis 채널로 발행하여 다른 서버는 해당 회원의 캐시를 삭제 (다음 조회 시 DB에서 로드).
+ * 발행 / 구독 메세지가 유실되어도 캐시는 저장 후 CACHE_EXPIRATION이 지나면 만료되어 다시 로드
+ * <p>
+ * event.cache.enabled=true 일 때만 사용하며, 비활성화 시 매 요청 DB 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCache {
+
+  public static final String EVENT_CACHE_CHANNEL = "event-cache";
+
+  // 캐시 최대 크기 : 전체 회원 이벤트 수 (반복 이벤트는 규칙 수)의 합
+  private static final long MAX_CACHED_EVENTS = 500_000;
+  // 다른 서버의 변경이 반영되지 않은 캐시의 최대 유지 시간
+  private static final Duration CACHE_EXPIRATION = Duration.ofMinutes(30);
+
+  // 발행한 서버 구분 : 현재 서버가 발행한 메세지는 이미 반영했으므로 무시
+  private static final String NODE_ID = UUID.randomUUID().toString();
+  private static final String MESSAGE_DELIMITER = ":";
+
+  private final EventRepository eventRepository;
+  private final RedisTemplate<String, String> redisStringTemplate;
+
+  @Value("${event.cache.enabled:false}")
+  private boolean isEnabled;
+
+  private final Cache<Long, MemberEvents> memberEvents = Caffeine.newBuilder()
+      .maximumWeight(MAX_CACHED_EVENTS)
+      .weigher((Long memberId, MemberEvents events) -> Math.max(1, events.size()))
+      .expireAfterWrite(CACHE_EXPIRATION)
+      .build();
+
+  /**
+   * 기간이 겹치는 이벤트 조회 (시작일시 <= endDateTime, 종료일시 >= startDateTime) : 반복 이벤트는 기간 내 반복마다 포함
+   *
+   * @param memberId      회원ID
+   * @param startDateTime 조회 시작일시
+   * @param endDateTime   조회 종료일시
+   * @return List<Span> : 이벤트ID, 제목, 시작일시, 종료일시, 인덱스, 하루종일 설정 여부 (시작일시 순)
+   */
+  public List<Span> findEventsWithinPeriod(Long memberId, LocalDateTime startDateTime,
+      LocalDateTime endDateTime) {
+    if (!isEnabled) {
+      return merge(
+          eventRepository.findEventsWithinPeriod(memberId, startDateTime, endDateTime).stream()
+              .map(Span::from)
+              .toList(),
+          eventRepository.findRepeatedEventsWithinPeriod(memberId, startDateTime, endDateTime)
+              .stream()
+              .map(EventRecurrence::from)
+              .toList(),
+          startDateTime, endDateTime);
+    }
+
+    MemberEvents events = memberEvents.get(memberId, this::load);
+
+    return merge(events.tree().findOverlapping(startDateTime, endDateTime),
+        events.recurrences(), startDateTime, endDateTime);
+  }
+
+  /**
+   * 이벤트 생성 / 수정 반영 : 캐시된 회원만 갱신 (캐시되지 않은 회원은 다음 조회 시 DB에서 로드)
+   *
+   * @param event 이벤트
+   */
+  public void onSaved(EventEntity event) {
+    if (!isEnabled) {
+      return;
+    }
+
+    Long memberId = event.getMember().getId();
+    Long eventId = event.getId();
+    Span span = event.isRepeated() ? null : Span.from(event);
+    EventRecurrence recurrence = event.isRepeated() ? EventRecurrence.from(event) : null;
+
+    afterCommit(() -> {
+      memberEvents.asMap().computeIfPresent(memberId,
+          (id, events) -> events.without(eventId).with(span, recurrence));
+      publish(memberId);
+    });
+  }
+
+  /**
+   * 이벤트 삭제 반영
+   *
+   * @param memberId 회원ID
+   * @param eventId  이벤트ID
+   */
+  public void onDeleted(Long memberId, Long eventId) {
+    if (!isEnabled) {
+      return;
+    }
+
+    afterCommit(() -> {
+      memberEvents.asMap().computeIfPresent(memberId, (id, events) -> events.without(eventId));
+      publish(memberId);
+    });
+  }
+
+  /**
+   * 다른 서버의 이벤트 변경 반영 : Redis 채널 구독 시 호출, 해당 회원의 캐시 삭제
+   *
+   * @param message 발행한 서버ID:회원ID
+   */
+  public void onPublished(String message) {
+    int delimiterIndex = message.lastIndexOf(MESSAGE_DELIMITER);
+
+    if (delimiterIndex < 0 || NODE_ID.equals(message.substring(0, delimiterIndex))) {
+      return;
+    }
+
+    try {
+      memberEvents.invalidate(Long.valueOf(message.substring(delimiterIndex + 1)));
+    } catch (NumberFormatException e) {
+      log.error("이벤트 캐시 메세지 변환 실패 : {}", message, e);
+    }
+  }
+
+  private void publish(Long memberId) {
+    try {
+      redisStringTemplate.convertAndSend(EVENT_CACHE_CHANNEL,
+          NODE_ID + MESSAGE_DELIMITER + memberId);
+    } catch (Exception e) {
+      log.error("이벤트 캐시 변경 발행 실패, 다른 서버는 캐시 만료 후 반영 : memberId={}", memberId, e);
+    }
+  }
+
+  private MemberEvents load(Long memberId) {
+    return new MemberEvents(
+        EventIntervalTree.of(eventRepository.findAllByMemberIdAndRepeatFrequencyIsNull(memberId)
+            .stream()
+            .map(Span::from)
+            .toList()),
+        eventRepository.findAllRepeatedByMemberId(memberId).stream()
+            .map(EventRecurrence::from)
+            .toList());
+  }
+
+  private List<Span> merge(List<Span> spans, List<EventRecurrence> recurrences,
+      LocalDateTime startDateTime, LocalDateTime endDateTime) {
+    if (recurrences.isEmpty()) {
+      return spans;
+    }
+
+    List<Span> merged = new ArrayList<>(spans);
+    recurrences.forEach(
+        recurrence -> merged.addAll(recurrence.expand(startDateTime, endDateTime)));
+    merged.sort(Comparator.comparing(Span::startDateTime));
+
+    return merged;
+  }
+
+  private void afterCommit(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+
+  /**
+   * 회원 이벤트 : 반복하지 않는 이벤트의 구간 트리, 반복 이벤트 규칙
+   */
+  private record MemberEvents(EventIntervalTree tree, List<EventRecurrence> recurrences) {
+
+    private int size() {
+      return tree.size() + recurrences.size();
+    }
+
+    private MemberEvents with(Span span, EventRecurrence recurrence) {
+      if (span != null) {
+        return new MemberEvents(tree.with(span), recurrences);
+      }
+
+      List<EventRecurrence> updated = new ArrayList<>(recurrences);
+      updated.add(recurrence);
+
+      return new MemberEvents(tree, List.copyOf(updated));
+    }
+
+    private MemberEvents without(Long eventId) {
+      return new MemberEvents(tree.without(eventId), recurrences.stream()
+          .filter(recurrence -> !recurrence.eventId().equals(eventId))
+          .toList());
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package plannery.flora.component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import plannery.flora.entity.EventEntity;
+
+/**
+ * 이벤트 구간 트리 : 시작일시 순으로 정렬된 배열을 암묵적 균형 이진 트리로 사용하고, 각 노드에 하위 트리의 최대 종료일시를 저장
+ * <p>
+ * 기간이 겹치는 이벤트 조회는 O(log n + k), 변경 시에는 새 트리를 생성 (불변 객체이므로 조회 중인 스레드와 동기화 불필요)
+ */
+public final class EventIntervalTree {
+
+  private static final EventIntervalTree EMPTY = new EventIntervalTree(new Span[0]);
+
+  private final Span[] spans;
+  private final long[] maxEnds;
+
+  private EventIntervalTree(Span[] spans) {
+    this.spans = spans;
+    this.maxEnds = new long[spans.length];
+    buildMaxEnds(0, spans.length - 1);
+  }
+
+  public static EventIntervalTree of(List<Span> spans) {
+    if (spans.isEmpty()) {
+      return EMPTY;
+    }
+
+    Span[] sorted = spans.toArray(Span[]::new);
+    Arrays.sort(sorted, Comparator.comparingLong(Span::startEpoch)
+        .thenComparing(Span::eventId));
+
+    return new EventIntervalTree(sorted);
+  }
+
+  /**
+   * 기간이 겹치는 이벤트 조회 (시작일시 <= to, 종료일시 >= from)
+   *
+   * @param from 조회 시작일시
+   * @param to   조회 종료일시
+   * @return List<Span> : 시작일시 순
+   */
+  public List<Span> findOverlapping(LocalDateTime from, LocalDateTime to) {
+    List<Span> result = new ArrayList<>();
+    collect(0, spans.length - 1, toEpoch(from), toEpoch(to), result);
+
+    return result;
+  }
+
+  /**
+   * 이벤트 추가 / 수정 : 같은 이벤트ID가 있으면 교체한 새 트리 반환
+   */
+  public EventIntervalTree with(Span span) {
+    List<Span> updated = new ArrayList<>(spans.length + 1);
+    for (Span existing : spans) {
+      if (!existing.eventId().equals(span.eventId())) {
+        updated.add(existing);
+      }
+    }
+    updated.add(span);
+
+    return of(updated);
+  }
+
+  /**
+   * 이벤트 삭제 : 해당 이벤트ID를 제외한 새 트리 반환
+   */
+  public EventIntervalTree without(Long eventId) {
+    return of(Arrays.stream(spans)
+        .filter(span -> !span.eventId().equals(eventId))
+        .toList());
+  }
+
+  public int size() {
+    return spans.length;
+  }
+
+  private long buildMaxEnds(int low, int high) {
+    if (low > high) {
+      return Long.MIN_VALUE;
+    }
+
+    int mid = (low + high) >>> 1;
+    maxEnds[mid] = Math.max(spans[mid].endEpoch(),
+        Math.max(buildMaxEnds(low, mid - 1), buildMaxEnds(mid + 1, high)));
+
+    return maxEnds[mid];
+  }
+
+  private void collect(int low, int high, long from, long to, List<Span> result) {
+    if (low > high) {
+      return;
+    }
+
+    int mid = (low + high) >>> 1;
+    // 하위 트리의 모든 이벤트가 조회 시작 전에 끝남
+    if (maxEnds[mid] < from) {
+      return;
+    }
+
+    collect(low, mid - 1, from, to, result);
+
+    // 오른쪽 하위 트리는 시작일시가 더 늦으므로 함께 제외
+    if (spans[mid].startEpoch() > to) {
+      return;
+    }
+
+    if (spans[mid].endEpoch() >= from) {
+      result.add(spans[mid]);
+    }
+
+    collect(mid + 1, high, from, to, result);
+  }
+
+  private static long toEpoch(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(ZoneOffset.UTC);
+  }
+
+  /**
+   * 이벤트 구간 : 조회 결과에 필요한 필드만 보관
+   */
+  public record Span(Long eventId, String title, LocalDateTime startDateTime,
+                     LocalDateTime endDateTime, String indexColor, boolean isAllDay,
+                     long startEpoch, long endEpoch) {
+
+    public static Span from(EventEntity event) {
+      return new Span(event.getId(), event.getTitle(), event.getStartDateTime(),
+          event.getEndDateTime(), event.getIndexColor(), event.isAllDay(),
+          toEpoch(event.getStartDateTime()), toEpoch(event.getEndDateTime()));
+    }
+
+    /**
+     * 반복 이벤트의 각 반복 : 시작일시, 종료일시만 변경
+     */
+    public Span withPeriod(LocalDateTime newStartDateTime, LocalDateTime newEndDateTime) {
+      return new Span(eventId, title, newStartDateTime, newEndDateTime, indexColor, isAllDay,
+          toEpoch(newStartDateTime), toEpoch(newEndDateTime));
+    }
+  }
+}
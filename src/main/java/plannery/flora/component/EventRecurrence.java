@@ -0,0 +1,136 @@
+package plannery.flora.component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import plannery.flora.component.EventIntervalTree.Span;
+import plannery.flora.entity.EventEntity;
+import plannery.flora.enums.RepeatFrequency;
+
+/**
+ * 반복 이벤트 규칙 : 반복마다 이벤트를 저장하지 않고, 조회 기간에 해당하는 반복만 계산 (RRULE의 FREQ, INTERVAL, BYDAY, UNTIL,
+ * COUNT, EXDATE)
+ * <p>
+ * 반복 횟수가 없으면 조회 기간 직전 주기로 바로 이동하므로 계산 비용은 조회 기간 내 반복 수에 비례
+ *
+ * @param first         첫 번째 반복 (이벤트의 시작일시, 종료일시)
+ * @param frequency     반복 주기
+ * @param interval      반복 간격
+ * @param repeatDays    반복 요일 (WEEKLY)
+ * @param until         반복 종료 날짜
+ * @param count         반복 횟수
+ * @param excludedDates 제외 날짜
+ */
+public record EventRecurrence(Span first, RepeatFrequency frequency, int interval,
+                              List<DayOfWeek> repeatDays, LocalDate until, Integer count,
+                              Set<LocalDate> excludedDates) {
+
+  public static EventRecurrence from(EventEntity event) {
+    LocalDate startDate = event.getStartDateTime().toLocalDate();
+    List<DayOfWeek> repeatDays = event.getRepeatDays().isEmpty()
+        ? List.of(startDate.getDayOfWeek())
+        : event.getRepeatDays().stream().sorted().toList();
+
+    return new EventRecurrence(Span.from(event), event.getRepeatFrequency(),
+        event.getRepeatInterval() == null ? 1 : event.getRepeatInterval(), repeatDays,
+        event.getRepeatUntil(), event.getRepeatCount(), Set.copyOf(event.getExcludedDates()));
+  }
+
+  public Long eventId() {
+    return first.eventId();
+  }
+
+  /**
+   * 조회 기간과 겹치는 반복 계산 (시작일시 <= to, 종료일시 >= from)
+   *
+   * @param from 조회 시작일시
+   * @param to   조회 종료일시
+   * @return List<Span> : 반복별 시작일시, 종료일시 (이벤트ID는 같음)
+   */
+  public List<Span> expand(LocalDateTime from, LocalDateTime to) {
+    List<Span> occurrences = new ArrayList<>();
+
+    Duration duration = Duration.between(first.startDateTime(), first.endDateTime());
+    LocalDate startDate = first.startDateTime().toLocalDate();
+    LocalTime startTime = first.startDateTime().toLocalTime();
+    // 이 날짜보다 먼저 시작하는 반복은 조회 시작 전에 끝남
+    LocalDate earliestDate = from.minus(duration).toLocalDate();
+
+    long period = count == null ? firstPeriod(startDate, earliestDate) : 0;
+    int generated = 0;
+
+    while (true) {
+      for (LocalDate date : datesInPeriod(startDate, period)) {
+        if (date.isBefore(startDate)) {
+          continue;
+        }
+
+        LocalDateTime occurrenceStart = date.atTime(startTime);
+        if ((until != null && date.isAfter(until)) || (count != null && generated >= count)
+            || occurrenceStart.isAfter(to)) {
+          return occurrences;
+        }
+        generated++;
+
+        LocalDateTime occurrenceEnd = occurrenceStart.plus(duration);
+        if (!excludedDates.contains(date) && !occurrenceEnd.isBefore(from)) {
+          occurrences.add(first.withPeriod(occurrenceStart, occurrenceEnd));
+        }
+      }
+      period++;
+    }
+  }
+
+  /**
+   * 조회 기간 직전 주기 : 첫 번째 반복부터 earliestDate까지의 주기 수
+   */
+  private long firstPeriod(LocalDate startDate, LocalDate earliestDate) {
+    if (!earliestDate.isAfter(startDate)) {
+      return 0;
+    }
+
+    long units = switch (frequency) {
+      case DAILY -> ChronoUnit.DAYS.between(startDate, earliestDate);
+      case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(startDate), weekStart(earliestDate));
+      case MONTHLY -> ChronoUnit.MONTHS.between(startDate.withDayOfMonth(1),
+          earliestDate.withDayOfMonth(1));
+      case YEARLY -> earliestDate.getYear() - startDate.getYear();
+    };
+
+    return units / interval;
+  }
+
+  /**
+   * 주기별 반복 날짜 : 해당 월 / 연도에 시작일과 같은 날짜가 없으면 (e.g. 31일, 2월 29일) 건너뜀
+   */
+  private List<LocalDate> datesInPeriod(LocalDate startDate, long period) {
+    long units = period * interval;
+
+    return switch (frequency) {
+      case DAILY -> List.of(startDate.plusDays(units));
+      case WEEKLY -> {
+        LocalDate weekStart = weekStart(startDate).plusWeeks(units);
+        yield repeatDays.stream()
+            .map(day -> weekStart.plusDays(day.getValue() - 1))
+            .toList();
+      }
+      case MONTHLY -> sameDayOrEmpty(startDate, startDate.plusMonths(units));
+      case YEARLY -> sameDayOrEmpty(startDate, startDate.plusYears(units));
+    };
+  }
+
+  private List<LocalDate> sameDayOrEmpty(LocalDate startDate, LocalDate date) {
+    return date.getDayOfMonth() == startDate.getDayOfMonth() ? List.of(date) : List.of();
+  }
+
+  private LocalDate weekStart(LocalDate date) {
+    return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+  }
+}
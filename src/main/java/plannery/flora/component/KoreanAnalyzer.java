@@ -0,0 +1,95 @@
+package plannery.flora.component;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+
+/**
+ * 한글 검색용 Analyzer : 어절 끝의 조사를 제거한 뒤 bigram으로 분리 ("일기를" -> "일기", "다이어리에서" -> "다이", "이어",
+ * "어리")
+ * <p>
+ * 색인과 검색에 같은 조사 제거를 적용하므로 조사가 붙은 키워드도 같은 단어로 검색됨
+ * <p>
+ * 색인용은 bigram과 함께 한 글자 unigram도 저장하여 한 글자 키워드("일", "밥")도 검색되도록 함. 검색용은 bigram만 생성하고
+ * (한 글자 키워드는 CJKBigramFilter가 unigram으로 생성) 색인의 같은 위치에 있는 bigram과 구문 일치
+ */
+public class KoreanAnalyzer extends Analyzer {
+
+  private final boolean isOutputUnigrams;
+
+  /**
+   * @param isOutputUnigrams bigram과 함께 unigram 생성 여부 (색인용 true, 검색용 false)
+   */
+  public KoreanAnalyzer(boolean isOutputUnigrams) {
+    this.isOutputUnigrams = isOutputUnigrams;
+  }
+
+  @Override
+  protected TokenStreamComponents createComponents(String fieldName) {
+    Tokenizer source = new StandardTokenizer();
+    TokenStream result = new CJKWidthFilter(source);
+    result = new LowerCaseFilter(result);
+    result = new ParticleFilter(result);
+    result = new CJKBigramFilter(result, CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA
+        | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL, isOutputUnigrams);
+
+    return new TokenStreamComponents(source, result);
+  }
+
+  @Override
+  protected TokenStream normalize(String fieldName, TokenStream in) {
+    return new LowerCaseFilter(new CJKWidthFilter(in));
+  }
+
+  /**
+   * 조사 제거 : 한글 어절에서 가장 긴 조사 하나를 제거 (남는 어간이 MIN_STEM_LENGTH 이상인 경우만)
+   */
+  static final class ParticleFilter extends TokenFilter {
+
+    private static final String HANGUL_TYPE =
+        StandardTokenizer.TOKEN_TYPES[StandardTokenizer.HANGUL];
+    private static final int MIN_STEM_LENGTH = 2;
+
+    // 긴 조사부터 비교
+    private static final List<String> PARTICLES = List.of(
+        "에서는", "으로는", "에게서",
+        "에서", "에게", "으로", "까지", "부터", "처럼", "보다", "하고", "이랑",
+        "은", "는", "이", "가", "을", "를", "에", "의", "로", "와", "과", "도", "만", "랑");
+
+    private final CharTermAttribute termAttribute = addAttribute(CharTermAttribute.class);
+    private final TypeAttribute typeAttribute = addAttribute(TypeAttribute.class);
+
+    ParticleFilter(TokenStream input) {
+      super(input);
+    }
+
+    @Override
+    public boolean incrementToken() throws IOException {
+      if (!input.incrementToken()) {
+        return false;
+      }
+
+      if (HANGUL_TYPE.equals(typeAttribute.type())) {
+        String term = termAttribute.toString();
+
+        for (String particle : PARTICLES) {
+          if (term.length() - particle.length() >= MIN_STEM_LENGTH && term.endsWith(particle)) {
+            termAttribute.setLength(term.length() - particle.length());
+            break;
+          }
+        }
+      }
+
+      return true;
+    }
+  }
+}
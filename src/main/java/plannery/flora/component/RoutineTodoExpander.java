@@ -0,0 +1,109 @@
+package plannery.flora.component;
+
+import static plannery.flora.exception.ErrorCode.NO_AUTHORITY;
+import static plannery.flora.exception.ErrorCode.TODO_NOT_FOUND;
+import static plannery.flora.exception.ErrorCode.TODO_OCCURRENCE_NOT_FOUND;
+import static plannery.flora.exception.ErrorCode.TODO_REPEAT_NOT_FOUND;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import plannery.flora.entity.TodoEntity;
+import plannery.flora.entity.TodoRepeatEntity;
+import plannery.flora.enums.TodoType;
+import plannery.flora.exception.CustomException;
+import plannery.flora.repository.TodoRepeatRepository;
+import plannery.flora.repository.TodoRepository;
+
+/**
+ * 루틴 투두 전개 : 루틴의 각 날짜별 투두는 TodoRepeatEntity(시작날짜, 종료날짜, 반복 요일)로부터 조회 시점에 계산하고, 완료 체크 / 수정 /
+ * 타이머 저장 등 변경이 필요한 시점에만 TodoEntity로 저장
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineTodoExpander {
+
+  private final TodoRepeatRepository todoRepeatRepository;
+  private final TodoRepository todoRepository;
+  private final SearchIndexListener searchIndexListener;
+
+  /**
+   * 해당 날짜에 반복되지만 아직 TodoEntity로 저장되지 않은 루틴 조회
+   *
+   * @param memberId 회원ID
+   * @param todoType 투두타입 (TODO_STUDY, TODO_LIFE)
+   * @param date     날짜
+   * @return List<TodoRepeatEntity>
+   */
+  public List<TodoRepeatEntity> findVirtualOccurrences(Long memberId, TodoType todoType,
+      LocalDate date) {
+    return todoRepeatRepository.findVirtualOccurrences(memberId, todoType, date,
+        date.getDayOfWeek());
+  }
+
+  /**
+   * 루틴 투두 저장 : 해당 날짜의 TodoEntity가 이미 존재하면 반환, 없으면 TodoRepeatEntity로부터 생성
+   * <p>
+   * 현재 트랜잭션에서 INSERT ... ON DUPLICATE KEY로 저장하므로 (todo_repeat_id, todo_date) unique 제약으로 동시 요청 중 하나만
+   * 저장되고, 나머지 요청은 예외 없이 먼저 저장된 투두 사용
+   *
+   * @param memberId     회원ID
+   * @param todoRepeatId 투두 반복ID
+   * @param date         날짜
+   * @return TodoEntity
+   */
+  public TodoEntity materialize(Long memberId, Long todoRepeatId, LocalDate date) {
+    TodoRepeatEntity todoRepeatEntity = todoRepeatRepository.findById(todoRepeatId)
+        .orElseThrow(() -> new CustomException(TODO_REPEAT_NOT_FOUND));
+
+    if (!todoRepeatEntity.getMember().getId().equals(memberId)) {
+      throw new CustomException(NO_AUTHORITY);
+    }
+
+    return todoRepository.findByTodoRepeatIdAndTodoDate(todoRepeatId, date)
+        .orElseGet(() -> {
+          if (!todoRepeatEntity.occursOn(date)) {
+            throw new CustomException(TODO_OCCURRENCE_NOT_FOUND);
+          }
+
+          int inserted = todoRepository.insertRoutineTodoIfAbsent(todoRepeatId, date,
+              LocalDateTime.now());
+
+          // 다른 요청이 먼저 커밋한 행은 현재 트랜잭션의 스냅샷에 보이지 않으므로 잠금 조회
+          TodoEntity todoEntity = todoRepository.findCommittedByTodoRepeatIdAndTodoDate(
+                  todoRepeatId, date)
+              .orElseThrow(() -> new CustomException(TODO_OCCURRENCE_NOT_FOUND));
+
+          // native INSERT는 엔티티 콜백이 호출되지 않으므로 직접 색인
+          if (inserted > 0) {
+            searchIndexListener.onSave(todoEntity);
+          }
+
+          return todoEntity;
+        });
+  }
+
+  /**
+   * 투두 조회 : 투두ID가 있으면 저장된 TodoEntity 조회, 없으면 투두 반복ID, 날짜로 루틴 투두 저장
+   *
+   * @param memberId     회원ID
+   * @param todoId       투두ID
+   * @param todoRepeatId 투두 반복ID
+   * @param date         날짜
+   * @return TodoEntity
+   */
+  public TodoEntity resolve(Long memberId, Long todoId, Long todoRepeatId, LocalDate date) {
+    if (todoId != null) {
+      return todoRepository.findById(todoId)
+          .orElseThrow(() -> new CustomException(TODO_NOT_FOUND));
+    }
+
+    if (todoRepeatId == null || date == null) {
+      throw new CustomException(TODO_NOT_FOUND);
+    }
+
+    return materialize(memberId, todoRepeatId, date);
+  }
+}
@@ -0,0 +1,450 @@
+package plannery.flora.component;
+
+import static plannery.flora.exception.ErrorCode.SEARCH_FAILED;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import plannery.flora.dto.search.SearchDocument;
+import plannery.flora.dto.search.SearchResultDto;
+import plannery.flora.enums.SearchType;
+import plannery.flora.exception.CustomException;
+
+/**
+ * 검색 색인 (Lucene) : 일기, 이벤트, 목표/다짐, 투두, 루틴의 제목/내용을 회원ID와 함께 색인
+ * <p>
+ * 한글은 KoreanAnalyzer로 조사 제거 후 bigram(색인은 unigram 포함)으로 분리하고, 키워드는 bigram 구문 검색으로 부분 일치를
+ * 찾은 뒤 BM25 점수(제목 가중치)로 정렬. 문서는 회원ID 순으로 정렬 저장되어 회원별 posting이 연속된 구간에 모임
+ */
+@Slf4j
+@Component
+public class SearchIndex {
+
+  private static final String FIELD_KEY = "key";
+  private static final String FIELD_TYPE = "type";
+  private static final String FIELD_ID = "id";
+  private static final String FIELD_MEMBER_ID = "memberId";
+  private static final String FIELD_TITLE = "title";
+  private static final String FIELD_CONTENT = "content";
+  private static final String FIELD_TODO_REPEAT_ID = "todoRepeatId";
+  private static final String FIELD_TODO_DATE = "todoDate";
+
+  // 커밋 데이터 : 마지막 커밋 시각 (서버 시작 시 이후 변경된 엔티티를 다시 색인)
+  private static final String COMMITTED_AT = "committedAt";
+
+  private static final Set<String> TITLE_FIELDS = Set.of(FIELD_TITLE, FIELD_TYPE);
+  private static final Set<String> ID_FIELDS = Set.of(FIELD_ID, FIELD_TYPE);
+
+  private static final float TITLE_BOOST = 2.0f;
+
+  // Analyzer / 색인 구조 변경 시 증가 : 새 디렉토리에 색인을 다시 생성
+  private static final String INDEX_VERSION = "v4";
+
+  private final Analyzer indexAnalyzer = new KoreanAnalyzer(true);
+  private final QueryBuilder queryBuilder = new QueryBuilder(new KoreanAnalyzer(false));
+
+  @Value("${search.index.path:./search-index}")
+  private String indexPath;
+
+  private Directory directory;
+  private IndexWriter indexWriter;
+  private SearcherManager searcherManager;
+
+  @PostConstruct
+  public void init() throws IOException {
+    directory = FSDirectory.open(Path.of(indexPath, INDEX_VERSION));
+    indexWriter = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer)
+        .setIndexSort(new Sort(new SortField(FIELD_MEMBER_ID, SortField.Type.LONG))));
+    searcherManager = new SearcherManager(indexWriter, null);
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    commit();
+    searcherManager.close();
+    indexWriter.close();
+    directory.close();
+  }
+
+  /**
+   * 색인 추가/갱신 : 엔티티 변경 반영용, 바로 검색되도록 searcher 갱신
+   *
+   * @param searchDocument 색인 문서
+   */
+  public void index(SearchDocument searchDocument) {
+    indexAll(List.of(searchDocument));
+  }
+
+  /**
+   * 색인 일괄 추가/갱신 : 색인 생성 / 보정용, 전체 문서 반영 후 searcher 한 번만 갱신
+   *
+   * @param searchDocuments 색인 문서
+   */
+  public void indexAll(Collection<SearchDocument> searchDocuments) {
+    for (SearchDocument searchDocument : searchDocuments) {
+      try {
+        indexWriter.updateDocument(new Term(FIELD_KEY, key(searchDocument.getType(),
+            searchDocument.getId())), toDocument(searchDocument));
+      } catch (IOException e) {
+        log.error("검색 색인 실패 : {} {}", searchDocument.getType(), searchDocument.getId(), e);
+      }
+    }
+
+    refresh();
+  }
+
+  /**
+   * 색인 삭제
+   *
+   * @param type 검색 타입
+   * @param id   엔티티ID
+   */
+  public void delete(SearchType type, Long id) {
+    deleteAll(type, List.of(id));
+  }
+
+  /**
+   * 색인 일괄 삭제 : 전체 문서 삭제 후 searcher 한 번만 갱신
+   *
+   * @param type 검색 타입
+   * @param ids  엔티티ID
+   */
+  public void deleteAll(SearchType type, Collection<Long> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+
+    try {
+      indexWriter.deleteDocuments(ids.stream()
+          .map(id -> new Term(FIELD_KEY, key(type, id)))
+          .toArray(Term[]::new));
+    } catch (IOException e) {
+      log.error("검색 색인 삭제 실패 : {} {}건", type, ids.size(), e);
+    }
+
+    refresh();
+  }
+
+  /**
+   * 루틴 투두 색인 삭제 : JPQL 일괄 삭제는 엔티티 콜백이 호출되지 않으므로 직접 삭제
+   *
+   * @param todoRepeatId 투두 반복ID
+   * @param fromDate     삭제 시작 날짜 (전체 삭제면 null)
+   */
+  public void deleteTodosByRepeat(Long todoRepeatId, LocalDate fromDate) {
+    BooleanQuery.Builder query = new BooleanQuery.Builder()
+        .add(LongPoint.newExactQuery(FIELD_TODO_REPEAT_ID, todoRepeatId), Occur.FILTER);
+
+    if (fromDate != null) {
+      query.add(LongPoint.newRangeQuery(FIELD_TODO_DATE, fromDate.toEpochDay(), Long.MAX_VALUE),
+          Occur.FILTER);
+    }
+
+    try {
+      indexWriter.deleteDocuments(query.build());
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.error("루틴 투두 색인 삭제 실패 : {}", todoRepeatId, e);
+    }
+  }
+
+  /**
+   * 회원 색인 전체 삭제
+   *
+   * @param memberId 회원ID
+   */
+  public void deleteMember(Long memberId) {
+    try {
+      indexWriter.deleteDocuments(LongPoint.newExactQuery(FIELD_MEMBER_ID, memberId));
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.error("회원 색인 삭제 실패 : {}", memberId, e);
+    }
+  }
+
+  /**
+   * 색인 전체 삭제
+   */
+  public void deleteAll() {
+    try {
+      indexWriter.deleteAll();
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.error("색인 전체 삭제 실패", e);
+    }
+  }
+
+  private void refresh() {
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      log.error("검색 색인 갱신 실패", e);
+    }
+  }
+
+  /**
+   * 색인 문서 수
+   *
+   * @return 색인 문서 수
+   */
+  public int count() {
+    return indexWriter.getDocStats().numDocs;
+  }
+
+  /**
+   * 키워드 검색 : 검색 타입의 문서 중 제목 또는 내용에 키워드가 포함된 문서를 관련도 순으로 조회
+   *
+   * @param memberId 회원ID
+   * @param type     검색 타입
+   * @param keyword  키워드
+   * @param limit    최대 결과 수
+   * @return List<SearchHit> : 검색 결과, 관련도 점수
+   */
+  public List<SearchHit> search(Long memberId, SearchType type, String keyword, int limit) {
+    Query titleQuery = queryBuilder.createPhraseQuery(FIELD_TITLE, keyword);
+    Query contentQuery = queryBuilder.createPhraseQuery(FIELD_CONTENT, keyword);
+
+    if (titleQuery == null && contentQuery == null) {
+      return List.of();
+    }
+
+    BooleanQuery.Builder keywordQuery = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+    if (titleQuery != null) {
+      keywordQuery.add(new BoostQuery(titleQuery, TITLE_BOOST), Occur.SHOULD);
+    }
+    if (contentQuery != null) {
+      keywordQuery.add(contentQuery, Occur.SHOULD);
+    }
+
+    Query query = new BooleanQuery.Builder()
+        .add(LongPoint.newExactQuery(FIELD_MEMBER_ID, memberId), Occur.FILTER)
+        .add(new TermQuery(new Term(FIELD_TYPE, type.name())), Occur.FILTER)
+        .add(keywordQuery.build(), Occur.MUST)
+        .build();
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        TopDocs topDocs = searcher.search(query, limit);
+        StoredFields storedFields = searcher.storedFields();
+
+        List<SearchHit> hits = new ArrayList<>();
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          Document document = storedFields.document(scoreDoc.doc);
+          hits.add(new SearchHit(SearchResultDto.builder()
+              .path(type.getPath())
+              .title(document.get(FIELD_TITLE))
+              .id(document.getField(FIELD_ID).numericValue().longValue())
+              .build(), scoreDoc.score));
+        }
+
+        return hits;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      log.error("검색 실패 : memberId={}", memberId, e);
+      throw new CustomException(SEARCH_FAILED);
+    }
+  }
+
+  /**
+   * 색인 변경 사항 디스크 반영 (검색은 커밋 전 변경 사항도 조회됨) : 커밋 시작 시각을 커밋 데이터로 저장
+   */
+  @Scheduled(fixedDelay = 60_000)
+  public void commit() {
+    if (!indexWriter.hasUncommittedChanges()) {
+      return;
+    }
+
+    try {
+      indexWriter.setLiveCommitData(
+          Map.of(COMMITTED_AT, LocalDateTime.now().toString()).entrySet());
+      indexWriter.commit();
+    } catch (IOException e) {
+      log.error("검색 색인 커밋 실패", e);
+    }
+  }
+
+  /**
+   * 마지막 커밋 시각 : 이후의 변경 사항은 서버 종료 / 장애 시 유실되었을 수 있음
+   *
+   * @return 마지막 커밋 시각 (커밋 데이터가 없으면 null)
+   */
+  public LocalDateTime getLastCommittedAt() {
+    Iterable<Map.Entry<String, String>> commitData = indexWriter.getLiveCommitData();
+    if (commitData == null) {
+      return null;
+    }
+
+    for (Map.Entry<String, String> entry : commitData) {
+      if (COMMITTED_AT.equals(entry.getKey())) {
+        return LocalDateTime.parse(entry.getValue());
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * 색인된 엔티티ID 전체 조회 : 서버 시작 시 DB와 비교하여 색인 보정
+   *
+   * @return Map<SearchType, Set<Long>> : 검색 타입별 엔티티ID
+   */
+  public Map<SearchType, Set<Long>> findAllIds() {
+    Map<SearchType, Set<Long>> ids = new EnumMap<>(SearchType.class);
+    for (SearchType type : SearchType.values()) {
+      ids.put(type, new HashSet<>());
+    }
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        Query query = new MatchAllDocsQuery();
+        int count = searcher.count(query);
+        if (count == 0) {
+          return ids;
+        }
+
+        TopDocs topDocs = searcher.search(query, count);
+        StoredFields storedFields = searcher.storedFields();
+
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          Document document = storedFields.document(scoreDoc.doc, ID_FIELDS);
+          ids.get(SearchType.valueOf(document.get(FIELD_TYPE)))
+              .add(document.getField(FIELD_ID).numericValue().longValue());
+        }
+
+        return ids;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      log.error("색인 ID 조회 실패", e);
+      throw new CustomException(SEARCH_FAILED);
+    }
+  }
+
+  /**
+   * 회원의 색인된 제목 전체 조회 : 검색어 자동완성 사전 생성용
+   *
+   * @param memberId 회원ID
+   * @return List<IndexedTitle> : 제목, 검색 타입
+   */
+  public List<IndexedTitle> findTitles(Long memberId) {
+    Query query = LongPoint.newExactQuery(FIELD_MEMBER_ID, memberId);
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        int count = searcher.count(query);
+        if (count == 0) {
+          return List.of();
+        }
+
+        TopDocs topDocs = searcher.search(query, count);
+        StoredFields storedFields = searcher.storedFields();
+
+        List<IndexedTitle> titles = new ArrayList<>(topDocs.scoreDocs.length);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+          Document document = storedFields.document(scoreDoc.doc, TITLE_FIELDS);
+          titles.add(new IndexedTitle(document.get(FIELD_TITLE),
+              SearchType.valueOf(document.get(FIELD_TYPE))));
+        }
+
+        return titles;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      log.error("제목 조회 실패 : memberId={}", memberId, e);
+      throw new CustomException(SEARCH_FAILED);
+    }
+  }
+
+  /**
+   * 검색 결과와 관련도 점수 : 검색 타입별 결과 병합 시 정렬 기준
+   */
+  public record SearchHit(SearchResultDto result, float score) {
+
+  }
+
+  /**
+   * 색인된 제목과 검색 타입
+   */
+  public record IndexedTitle(String title, SearchType type) {
+
+  }
+
+  private String key(SearchType type, Long id) {
+    return type.name() + ":" + id;
+  }
+
+  private Document toDocument(SearchDocument searchDocument) {
+    Document document = new Document();
+    document.add(new StringField(FIELD_KEY,
+        key(searchDocument.getType(), searchDocument.getId()), Field.Store.NO));
+    document.add(new StringField(FIELD_TYPE, searchDocument.getType().name(), Field.Store.YES));
+    document.add(new StoredField(FIELD_ID, searchDocument.getId()));
+    document.add(new LongPoint(FIELD_MEMBER_ID, searchDocument.getMemberId()));
+    document.add(new NumericDocValuesField(FIELD_MEMBER_ID, searchDocument.getMemberId()));
+    document.add(new TextField(FIELD_TITLE, nullToEmpty(searchDocument.getTitle()),
+        Field.Store.YES));
+    document.add(new TextField(FIELD_CONTENT, nullToEmpty(searchDocument.getContent()),
+        Field.Store.NO));
+
+    if (searchDocument.getTodoRepeatId() != null) {
+      document.add(new LongPoint(FIELD_TODO_REPEAT_ID, searchDocument.getTodoRepeatId()));
+    }
+    if (searchDocument.getTodoDate() != null) {
+      document.add(new LongPoint(FIELD_TODO_DATE, searchDocument.getTodoDate().toEpochDay()));
+    }
+
+    return document;
+  }
+
+  private String nullToEmpty(String value) {
+    return value == null ? "" : value;
+  }
+}
@@ -0,0 +1,129 @@
+package plannery.flora.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plannery.flora.dto.search.SearchDocument;
+import plannery.flora.dto.search.SearchIndexEvent;
+import plannery.flora.enums.SearchIndexOperation;
+
+/**
+ * 검색 색인 갱신 : 일기, 이벤트, 목표/다짐, 투두, 루틴 엔티티 변경 시 트랜잭션 커밋 후 Redis 채널로 발행하고, 각 서버는 구독한 변경
+ * 사항을 자신의 색인에 반영하고 회원의 자동완성 사전 삭제
+ * <p>
+ * 발행 실패 시 현재 서버의 색인에만 반영 (다른 서버는 재시작 시 색인 보정으로 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+  public static final String SEARCH_INDEX_CHANNEL = "search-index";
+
+  private final SearchIndex searchIndex;
+  private final TitleSuggester titleSuggester;
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final ObjectMapper objectMapper;
+
+  @PostPersist
+  @PostUpdate
+  public void onSave(Object entity) {
+    SearchDocument searchDocument = SearchDocument.from(entity);
+
+    if (searchDocument != null) {
+      afterCommit(SearchIndexEvent.builder()
+          .operation(SearchIndexOperation.INDEX)
+          .memberId(searchDocument.getMemberId())
+          .document(searchDocument)
+          .build());
+    }
+  }
+
+  @PostRemove
+  public void onRemove(Object entity) {
+    SearchDocument searchDocument = SearchDocument.from(entity);
+
+    if (searchDocument != null) {
+      afterCommit(SearchIndexEvent.builder()
+          .operation(SearchIndexOperation.DELETE)
+          .memberId(searchDocument.getMemberId())
+          .type(searchDocument.getType())
+          .id(searchDocument.getId())
+          .build());
+    }
+  }
+
+  /**
+   * 루틴 투두 일괄 삭제 반영 : JPQL 일괄 삭제는 엔티티 콜백이 호출되지 않으므로 서비스에서 호출
+   *
+   * @param memberId     회원ID
+   * @param todoRepeatId 투두 반복ID
+   * @param fromDate     삭제 시작 날짜 (전체 삭제면 null)
+   */
+  public void onTodosDeleted(Long memberId, Long todoRepeatId, LocalDate fromDate) {
+    afterCommit(SearchIndexEvent.builder()
+        .operation(SearchIndexOperation.DELETE_TODOS_BY_REPEAT)
+        .memberId(memberId)
+        .todoRepeatId(todoRepeatId)
+        .fromDate(fromDate)
+        .build());
+  }
+
+  /**
+   * 색인 변경 반영 (색인 채널 구독 시 호출)
+   *
+   * @param payload 색인 변경 (JSON)
+   */
+  public void onPublished(String payload) {
+    try {
+      apply(objectMapper.readValue(payload, SearchIndexEvent.class));
+    } catch (JsonProcessingException e) {
+      log.error("색인 변경 메세지 변환 실패 : {}", payload, e);
+    }
+  }
+
+  private void publish(SearchIndexEvent event) {
+    try {
+      redisStringTemplate.convertAndSend(SEARCH_INDEX_CHANNEL,
+          objectMapper.writeValueAsString(event));
+    } catch (Exception e) {
+      log.error("색인 변경 발행 실패, 현재 서버에만 반영 : {} memberId={}", event.getOperation(),
+          event.getMemberId(), e);
+      apply(event);
+    }
+  }
+
+  private void apply(SearchIndexEvent event) {
+    switch (event.getOperation()) {
+      case INDEX -> searchIndex.index(event.getDocument());
+      case DELETE -> searchIndex.delete(event.getType(), event.getId());
+      case DELETE_TODOS_BY_REPEAT ->
+          searchIndex.deleteTodosByRepeat(event.getTodoRepeatId(), event.getFromDate());
+    }
+
+    titleSuggester.invalidate(event.getMemberId());
+  }
+
+  private void afterCommit(SearchIndexEvent event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      publish(event);
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        publish(event);
+      }
+    });
+  }
+}
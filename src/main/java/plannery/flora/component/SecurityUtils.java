@@ -7,8 +7,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import plannery.flora.entity.MemberEntity;
+import plannery.flora.enums.UserRole;
 import plannery.flora.exception.CustomException;
 import plannery.flora.repository.MemberRepository;
+import plannery.flora.security.MemberPrincipal;
 
 @Component
 @RequiredArgsConstructor
@@ -17,20 +19,57 @@ public class SecurityUtils {
   private final MemberRepository memberRepository;
 
   /**
-   * 본인 확인
+   * 본인 확인 : 회원 엔티티가 필요한 경우 (연관관계 설정 등)
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
-   * @return MemberEntity
+   * @return MemberEntity : 조회 쿼리 없이 지연 로딩되는 참조
    */
   public MemberEntity validateUserDetails(UserDetails userDetails, Long memberId) {
-    MemberEntity member = memberRepository.findByEmail(userDetails.getUsername())
-        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+    validateMemberId(userDetails, memberId);
+
+    return memberRepository.getReferenceById(memberId);
+  }
 
-    if (!member.getId().equals(memberId)) {
+  /**
+   * 본인 확인 : 토큰의 회원ID와 요청 회원ID 비교 (회원 조회 없음)
+   *
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID
+   */
+  public void validateMemberId(UserDetails userDetails, Long memberId) {
+    if (!getMemberId(userDetails).equals(memberId)) {
       throw new CustomException(NO_AUTHORITY);
     }
+  }
 
-    return member;
+  /**
+   * 관리자 확인
+   *
+   * @param userDetails 사용자 정보
+   */
+  public void validateAdmin(UserDetails userDetails) {
+    boolean isAdmin = userDetails.getAuthorities().stream()
+        .anyMatch(authority -> authority.getAuthority().equals(UserRole.ROLE_ADMIN.name()));
+
+    if (!isAdmin) {
+      throw new CustomException(NO_AUTHORITY);
+    }
+  }
+
+  /**
+   * 인증된 회원ID 조회 : JWT claims 기반 MemberPrincipal이 아닌 경우에만 이메일로 회원 조회
+   *
+   * @param userDetails 사용자 정보
+   * @return 회원ID
+   */
+  public Long getMemberId(UserDetails userDetails) {
+    if (userDetails instanceof MemberPrincipal memberPrincipal) {
+      return memberPrincipal.getMemberId();
+    }
+
+    return memberRepository.findByEmail(userDetails.getUsername())
+        .map(MemberEntity::getId)
+        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
   }
 }
@@ -0,0 +1,140 @@
+package plannery.flora.component;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SSE 연결 : 회원ID, SseEmitter, 연결 시각, 전송 시작 시각 (전송 시간 초과 판단용), 전송 대기열
+ * <p>
+ * SseEmitter의 send / complete는 같은 lock을 사용하므로, 전송 작업(isDraining)을 가진 스레드만 send / complete 호출
+ */
+@Getter
+public class SseConnection {
+
+  // 연결별 전송 대기열 크기 : 초과 시 느린 연결로 판단하여 종료
+  private static final int OUTBOUND_QUEUE_CAPACITY = 32;
+
+  private final Long memberId;
+
+  private final SseEmitter emitter;
+
+  private final long connectedAt = System.currentTimeMillis();
+
+  // 전송 중인 경우 전송 시작 시각, 전송 중이 아니면 0
+  private volatile long sendStartedAt;
+
+  private final BlockingQueue<SseEventBuilder> outbound = new ArrayBlockingQueue<>(
+      OUTBOUND_QUEUE_CAPACITY);
+
+  // 전송 작업이 실행 중이거나 대기 중인지 여부 : 연결마다 전송 작업은 최대 하나
+  private final AtomicBoolean isDraining = new AtomicBoolean();
+
+  // 종료 요청 여부 : 종료 요청 후에는 전송하지 않고, 전송 작업이 SseEmitter 종료
+  private volatile boolean isClosed;
+
+  private volatile Exception closeCause;
+
+  private final AtomicBoolean isCompleted = new AtomicBoolean();
+
+  // 연속된 느린 전송 횟수 : 전송 작업을 가진 스레드에서만 변경
+  private int slowSendCount;
+
+  public SseConnection(Long memberId, SseEmitter emitter) {
+    this.memberId = memberId;
+    this.emitter = emitter;
+  }
+
+  public void send(SseEventBuilder event) throws IOException {
+    sendStartedAt = System.currentTimeMillis();
+    try {
+      emitter.send(event);
+    } finally {
+      sendStartedAt = 0;
+    }
+  }
+
+  /**
+   * 전송 시간 기록 : 느린 전송이면 횟수 증가, 아니면 초기화
+   *
+   * @param isSlow 느린 전송 여부
+   * @return 연속된 느린 전송 횟수
+   */
+  public int recordSend(boolean isSlow) {
+    slowSendCount = isSlow ? slowSendCount + 1 : 0;
+    return slowSendCount;
+  }
+
+  public boolean offer(SseEventBuilder event) {
+    return outbound.offer(event);
+  }
+
+  public SseEventBuilder poll() {
+    return outbound.poll();
+  }
+
+  public boolean hasPending() {
+    return !outbound.isEmpty();
+  }
+
+  public boolean tryStartDrain() {
+    return isDraining.compareAndSet(false, true);
+  }
+
+  public void finishDrain() {
+    isDraining.set(false);
+  }
+
+  /**
+   * 종료 요청 : 처음 요청한 경우에만 true
+   */
+  public synchronized boolean markClosed(Exception cause) {
+    if (isClosed) {
+      return false;
+    }
+
+    closeCause = cause;
+    isClosed = true;
+    return true;
+  }
+
+  public boolean isClosed() {
+    return isClosed;
+  }
+
+  /**
+   * SseEmitter 종료 : 전송 작업을 가진 스레드에서만 호출, 한 번만 실행
+   */
+  public void complete() {
+    if (!isCompleted.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      if (closeCause == null) {
+        emitter.complete();
+      } else {
+        emitter.completeWithError(closeCause);
+      }
+    } catch (Exception ignored) {
+      // 이미 종료된 연결
+    }
+  }
+
+  public boolean isCompleted() {
+    return isCompleted.get();
+  }
+
+  public boolean isSending() {
+    return sendStartedAt != 0;
+  }
+
+  public boolean isSendTimedOut(long now, long sendTimeoutMillis) {
+    long startedAt = sendStartedAt;
+    return startedAt != 0 && now - startedAt > sendTimeoutMillis;
+  }
+}
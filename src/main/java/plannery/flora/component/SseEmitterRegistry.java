@@ -0,0 +1,269 @@
+package plannery.flora.component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SSE 연결 관리 : 회원별 연결은 copy-on-write Set으로 관리하고, 변경은 ConcurrentHashMap.compute 안에서만 수행
+ * <p>
+ * 전송은 연결별 대기열에 넣은 뒤 SSE 전송 스레드 풀에서 처리하므로, 느린 연결이 다른 연결의 전송을 지연시키지 않음. 전송 작업은
+ * DRAIN_TIME_SLICE_MILLIS마다 스레드를 양보하고, 연속으로 느린 전송이 MAX_SLOW_SENDS회 발생한 연결은 종료
+ * (한 번의 blocking write 제한 시간은 server.tomcat.connection-timeout)
+ * <p>
+ * 연결 종료는 목록에서 제거 후 종료 표시만 하고, SseEmitter 종료는 전송 작업에서 수행 (전송 중인 연결을 다른 스레드에서 종료하면 send의
+ * lock을 기다리며 멈춤)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEmitterRegistry {
+
+  // 회원별 최대 연결 수 : 초과 시 가장 오래된 연결 종료
+  private static final int MAX_CONNECTIONS_PER_MEMBER = 5;
+  private static final long HEARTBEAT_INTERVAL_MILLIS = 30_000;
+  private static final long SEND_TIMEOUT_MILLIS = 10_000;
+  // 느린 전송 기준 : 연속으로 MAX_SLOW_SENDS회 초과 시 연결 종료
+  private static final long SLOW_SEND_MILLIS = 1_000;
+  private static final int MAX_SLOW_SENDS = 3;
+  // 전송 작업 1회의 최대 처리 시간 : 초과 시 남은 이벤트는 다시 등록한 전송 작업에서 처리
+  private static final long DRAIN_TIME_SLICE_MILLIS = 1_000;
+
+  private final MeterRegistry meterRegistry;
+  private final ThreadPoolTaskExecutor sseSendExecutor;
+
+  private final Map<Long, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+  private final AtomicInteger connectionCount = new AtomicInteger();
+
+  /**
+   * 서버별 SSE 연결 수 지표 등록
+   */
+  @PostConstruct
+  public void registerMetrics() {
+    Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+        .description("현재 서버에 연결된 SSE 수")
+        .register(meterRegistry);
+
+    Gauge.builder("notification.sse.members", connections, Map::size)
+        .description("현재 서버에 SSE로 연결된 회원 수")
+        .register(meterRegistry);
+  }
+
+  /**
+   * SSE 연결 등록 : 회원별 최대 연결 수 초과 시 가장 오래된 연결 종료
+   *
+   * @param memberId 회원ID
+   * @param timeout  연결 유지 시간 (ms)
+   * @return SseConnection
+   */
+  public SseConnection register(Long memberId, long timeout) {
+    SseConnection connection = new SseConnection(memberId, new SseEmitter(timeout));
+    List<SseConnection> evicted = new ArrayList<>();
+
+    connections.compute(memberId, (key, memberConnections) -> {
+      Set<SseConnection> updated =
+          memberConnections == null ? new CopyOnWriteArraySet<>() : memberConnections;
+
+      while (updated.size() >= MAX_CONNECTIONS_PER_MEMBER) {
+        SseConnection oldest = updated.stream()
+            .min(Comparator.comparingLong(SseConnection::getConnectedAt))
+            .orElseThrow();
+        updated.remove(oldest);
+        evicted.add(oldest);
+      }
+
+      updated.add(connection);
+      return updated;
+    });
+
+    connectionCount.addAndGet(1 - evicted.size());
+    evicted.forEach(oldest -> close(oldest, null));
+
+    SseEmitter emitter = connection.getEmitter();
+    emitter.onCompletion(() -> remove(connection));
+    emitter.onTimeout(() -> close(connection, null));
+    emitter.onError(e -> {
+      connection.markClosed(null);
+      remove(connection);
+    });
+
+    return connection;
+  }
+
+  /**
+   * SSE 연결 제거
+   *
+   * @param connection SseConnection
+   */
+  public void remove(SseConnection connection) {
+    connections.computeIfPresent(connection.getMemberId(), (key, memberConnections) -> {
+      if (memberConnections.remove(connection)) {
+        connectionCount.decrementAndGet();
+      }
+      return memberConnections.isEmpty() ? null : memberConnections;
+    });
+  }
+
+  /**
+   * 회원의 SSE 연결 전체 종료
+   *
+   * @param memberId 회원ID
+   */
+  public void removeAll(Long memberId) {
+    Set<SseConnection> memberConnections = connections.remove(memberId);
+
+    if (memberConnections != null) {
+      connectionCount.addAndGet(-memberConnections.size());
+      memberConnections.forEach(connection -> close(connection, null));
+    }
+  }
+
+  /**
+   * 단일 연결에 전송 : 연결의 전송 대기열에 추가, 대기열이 가득 찬 경우 연결 종료
+   *
+   * @param connection SseConnection
+   * @param event      전송 이벤트
+   * @return 대기열 추가 여부
+   */
+  public boolean send(SseConnection connection, SseEventBuilder event) {
+    if (connection.isClosed()) {
+      return false;
+    }
+
+    if (!connection.offer(event)) {
+      meterRegistry.counter("notification.sse.overflow").increment();
+      close(connection, null);
+      return false;
+    }
+
+    scheduleDrain(connection);
+    return true;
+  }
+
+  /**
+   * 현재 서버에 연결된 모든 회원에게 전송 : SseEventBuilder는 전송 시 변경되므로 연결마다 새로 생성
+   *
+   * @param eventSupplier 전송 이벤트 생성
+   * @return 대기열에 추가한 연결 수
+   */
+  public int sendToAll(Supplier<SseEventBuilder> eventSupplier) {
+    int delivered = 0;
+
+    for (Set<SseConnection> memberConnections : connections.values()) {
+      for (SseConnection connection : memberConnections) {
+        if (send(connection, eventSupplier.get())) {
+          delivered++;
+        }
+      }
+    }
+
+    return delivered;
+  }
+
+  /**
+   * 하트비트 : 전송 시간이 초과된 연결은 목록에서 제거하고 종료 표시만 함 (멈춘 전송은 전송 시간 제한 또는 비동기 요청 시간 초과로 종료)
+   */
+  @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MILLIS)
+  public void heartbeat() {
+    long now = System.currentTimeMillis();
+    List<SseConnection> deadConnections = new ArrayList<>();
+
+    for (Set<SseConnection> memberConnections : connections.values()) {
+      for (SseConnection connection : memberConnections) {
+        if (connection.isSendTimedOut(now, SEND_TIMEOUT_MILLIS)) {
+          deadConnections.add(connection);
+        } else if (!connection.isSending() && !connection.hasPending()) {
+          send(connection, SseEmitter.event().comment("heartbeat"));
+        }
+      }
+    }
+
+    deadConnections.forEach(connection -> close(connection, null));
+
+    if (!deadConnections.isEmpty()) {
+      log.info("SSE 연결 정리 : {}건", deadConnections.size());
+    }
+  }
+
+  private void scheduleDrain(SseConnection connection) {
+    if (!connection.tryStartDrain()) {
+      return;
+    }
+
+    try {
+      sseSendExecutor.execute(() -> drain(connection));
+    } catch (TaskRejectedException e) {
+      // 전송 작업을 가지고 있으므로 현재 스레드에서 종료해도 send와 경합하지 않음
+      connection.markClosed(e);
+      remove(connection);
+      connection.complete();
+      connection.finishDrain();
+    }
+  }
+
+  /**
+   * 전송 대기열 처리 : 전송 실패, 연속된 느린 전송 또는 종료 요청 시 SseEmitter 종료, 처리 시간을 초과했거나 처리 중 추가된 이벤트가
+   * 있으면 다시 전송 작업 등록
+   */
+  private void drain(SseConnection connection) {
+    long drainStartedAt = System.currentTimeMillis();
+
+    try {
+      SseEventBuilder event;
+      while (!connection.isClosed() && (event = connection.poll()) != null) {
+        long sendStartedAt = System.currentTimeMillis();
+        connection.send(event);
+        long now = System.currentTimeMillis();
+
+        if (connection.recordSend(now - sendStartedAt >= SLOW_SEND_MILLIS) >= MAX_SLOW_SENDS) {
+          meterRegistry.counter("notification.sse.slow").increment();
+          connection.markClosed(null);
+          remove(connection);
+        } else if (now - drainStartedAt >= DRAIN_TIME_SLICE_MILLIS) {
+          break;
+        }
+      }
+    } catch (Exception e) {
+      connection.markClosed(e);
+      remove(connection);
+    } finally {
+      if (connection.isClosed()) {
+        connection.complete();
+      }
+      connection.finishDrain();
+    }
+
+    // 종료 요청이 전송 작업 종료 직전에 들어온 경우에도 다시 등록된 전송 작업이 SseEmitter 종료
+    if (connection.isClosed() ? !connection.isCompleted() : connection.hasPending()) {
+      scheduleDrain(connection);
+    }
+  }
+
+  /**
+   * 연결 종료 : 목록에서 제거하고 종료 표시, 전송 중이 아니면 전송 작업을 등록하여 SseEmitter 종료
+   */
+  private void close(SseConnection connection, Exception e) {
+    remove(connection);
+
+    if (connection.markClosed(e)) {
+      scheduleDrain(connection);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package plannery.flora.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import plannery.flora.component.SearchIndex.IndexedTitle;
+import plannery.flora.enums.SearchType;
+
+/**
+ * 검색어 자동완성 : 회원별로 색인된 제목을 정렬된 사전으로 만들어 캐시하고, 이진 탐색으로 접두어에 해당하는 구간만 조회
+ * <p>
+ * 제목의 각 단어 시작 위치를 사전 키로 사용하므로 제목 중간 단어로도 자동완성됨 ("영어 단어 외우기" -> "영어 단어 외우기", "단어 외우기",
+ * "외우기")
+ */
+@Component
+@RequiredArgsConstructor
+public class TitleSuggester {
+
+  // 캐시 최대 크기 : 전체 회원 사전 키 수의 합
+  private static final long MAX_CACHED_ENTRIES = 2_000_000;
+  private static final Duration CACHE_EXPIRATION = Duration.ofMinutes(10);
+  // 접두어 구간에서 확인하는 최대 키 수
+  private static final int MAX_SCAN = 1000;
+  // 루틴 제목 가중치 : 루틴은 한 번만 색인되므로 일반 제목보다 먼저 자동완성되도록 사용 횟수에 더함
+  private static final int ROUTINE_WEIGHT = 1_000_000;
+
+  private final SearchIndex searchIndex;
+
+  private final Cache<Long, Dictionary> dictionaries = Caffeine.newBuilder()
+      .maximumWeight(MAX_CACHED_ENTRIES)
+      .weigher((Long memberId, Dictionary dictionary) -> Math.max(1, dictionary.keys.length))
+      .expireAfterAccess(CACHE_EXPIRATION)
+      .build();
+
+  /**
+   * 자동완성 : 접두어로 시작하는 제목을 많이 사용된 순으로 최대 limit건 조회
+   *
+   * @param memberId 회원ID
+   * @param prefix   접두어
+   * @param limit    최대 결과 수
+   * @return List<String> : 제목
+   */
+  public List<String> suggest(Long memberId, String prefix, int limit) {
+    String normalizedPrefix = normalize(prefix);
+    if (normalizedPrefix.isEmpty()) {
+      return List.of();
+    }
+
+    Dictionary dictionary = dictionaries.get(memberId, this::buildDictionary);
+
+    int from = lowerBound(dictionary.keys, normalizedPrefix);
+    int to = Math.min(dictionary.keys.length, from + MAX_SCAN);
+
+    Map<String, Integer> matches = new HashMap<>();
+    for (int i = from; i < to && dictionary.keys[i].startsWith(normalizedPrefix); i++) {
+      matches.merge(dictionary.titles[i], dictionary.counts[i], Math::max);
+    }
+
+    return matches.entrySet().stream()
+        .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()))
+        .limit(limit)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  /**
+   * 회원 사전 삭제 : 색인 변경 시 호출, 다음 자동완성 요청 시 다시 생성
+   *
+   * @param memberId 회원ID
+   */
+  public void invalidate(Long memberId) {
+    dictionaries.invalidate(memberId);
+  }
+
+  public void invalidateAll() {
+    dictionaries.invalidateAll();
+  }
+
+  private Dictionary buildDictionary(Long memberId) {
+    // 같은 제목 사용 횟수, 루틴 제목은 ROUTINE_WEIGHT 추가
+    Map<String, Integer> titleCounts = new HashMap<>();
+    for (IndexedTitle indexedTitle : searchIndex.findTitles(memberId)) {
+      String title = indexedTitle.title();
+      if (title != null && !title.isBlank()) {
+        titleCounts.merge(title.strip(),
+            indexedTitle.type() == SearchType.ROUTINE ? ROUTINE_WEIGHT : 1, Integer::sum);
+      }
+    }
+
+    // 키 -> (제목, 사용 횟수), 같은 키는 사용 횟수가 많은 제목 유지
+    TreeMap<String, Map.Entry<String, Integer>> entries = new TreeMap<>();
+    titleCounts.forEach((title, count) -> {
+      String normalizedTitle = normalize(title);
+      for (int i = 0; i < normalizedTitle.length(); i++) {
+        if (i == 0 || (Character.isWhitespace(normalizedTitle.charAt(i - 1))
+            && !Character.isWhitespace(normalizedTitle.charAt(i)))) {
+          entries.merge(normalizedTitle.substring(i), Map.entry(title, count),
+              (existing, added) -> existing.getValue() >= added.getValue() ? existing : added);
+        }
+      }
+    });
+
+    String[] keys = entries.keySet().toArray(String[]::new);
+    String[] titles = new String[keys.length];
+    int[] counts = new int[keys.length];
+
+    int index = 0;
+    for (Map.Entry<String, Integer> entry : entries.values()) {
+      titles[index] = entry.getKey();
+      counts[index] = entry.getValue();
+      index++;
+    }
+
+    return new Dictionary(keys, titles, counts);
+  }
+
+  private int lowerBound(String[] keys, String prefix) {
+    int index = Arrays.binarySearch(keys, prefix);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  private String normalize(String value) {
+    return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 정렬된 사전 : keys[i]로 시작하는 제목 titles[i], 사용 횟수 counts[i]
+   */
+  private record Dictionary(String[] keys, String[] titles, int[] counts) {
+
+  }
+}
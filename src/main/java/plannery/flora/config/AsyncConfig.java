@@ -1,10 +1,77 @@
 package plannery.flora.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+  public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+  public static final String SSE_SEND_EXECUTOR = "sseSendExecutor";
+  public static final String SEARCH_EXECUTOR = "searchExecutor";
+  public static final String REDIS_LISTENER_EXECUTOR = "redisListenerExecutor";
+
+  /**
+   * 알림 전체 발송 / 저장용 스레드 풀
+   */
+  @Bean(name = NOTIFICATION_EXECUTOR)
+  public ThreadPoolTaskExecutor notificationExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("notification-");
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * SSE 전송용 스레드 풀 : 연결마다 최대 하나의 전송 작업만 대기하므로 대기열 크기는 연결 수 기준
+   */
+  @Bean(name = SSE_SEND_EXECUTOR)
+  public ThreadPoolTaskExecutor sseSendExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(16);
+    executor.setMaxPoolSize(16);
+    executor.setQueueCapacity(50_000);
+    executor.setThreadNamePrefix("sse-send-");
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * 검색용 스레드 풀 : 검색 타입별 조회를 병렬 실행, 대기열이 가득 차면 요청 스레드에서 실행
+   */
+  @Bean(name = SEARCH_EXECUTOR)
+  public ThreadPoolTaskExecutor searchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(8);
+    executor.setMaxPoolSize(8);
+    executor.setQueueCapacity(400);
+    executor.setThreadNamePrefix("search-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+
+    return executor;
+  }
+
+  /**
+   * Redis pub/sub 메세지 처리용 단일 스레드 : 발행 순서대로 처리 (같은 문서의 색인 / 삭제 순서 보장)
+   */
+  @Bean(name = REDIS_LISTENER_EXECUTOR)
+  public ThreadPoolTaskExecutor redisListenerExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setThreadNamePrefix("redis-listener-");
+    executor.initialize();
+
+    return executor;
+  }
 }
@@ -0,0 +1,25 @@
+package plannery.flora.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+  private static final int JDBC_BATCH_SIZE = 100;
+
+  /**
+   * JDBC 배치 설정 : 같은 테이블의 INSERT/UPDATE/DELETE를 모아서 전송
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+    return properties -> {
+      properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+      properties.put(AvailableSettings.ORDER_INSERTS, true);
+      properties.put(AvailableSettings.ORDER_UPDATES, true);
+      properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+    };
+  }
+}
@@ -0,0 +1,52 @@
+package plannery.flora.config;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import plannery.flora.component.EventCache;
+import plannery.flora.component.SearchIndexListener;
+import plannery.flora.service.BlacklistTokenService;
+import plannery.flora.service.NotificationBroadcastService;
+
+@Configuration
+public class RedisConfig {
+
+  /**
+   * Redis pub/sub 구독 : 다른 서버에서 추가된 블랙리스트 토큰을 로컬 캐시에 반영, 발행된 알림을 현재 서버에 연결된 회원에게 전송,
+   * 검색 색인 변경을 현재 서버의 색인에 반영, 다른 서버에서 변경된 회원의 이벤트 캐시 삭제
+   */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory redisConnectionFactory,
+      BlacklistTokenService blacklistTokenService,
+      NotificationBroadcastService notificationBroadcastService,
+      SearchIndexListener searchIndexListener,
+      EventCache eventCache,
+      ThreadPoolTaskExecutor redisListenerExecutor) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory);
+    container.setTaskExecutor(redisListenerExecutor);
+
+    container.addMessageListener((message, pattern) -> blacklistTokenService.onBlacklisted(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(BlacklistTokenService.BLACKLIST_CHANNEL));
+
+    container.addMessageListener((message, pattern) -> notificationBroadcastService.onPublished(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(NotificationBroadcastService.NOTIFICATION_CHANNEL));
+
+    container.addMessageListener((message, pattern) -> searchIndexListener.onPublished(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(SearchIndexListener.SEARCH_INDEX_CHANNEL));
+
+    container.addMessageListener((message, pattern) -> eventCache.onPublished(
+            new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(EventCache.EVENT_CACHE_CHANNEL));
+
+    return container;
+  }
+}
@@ -0,0 +1,36 @@
+package plannery.flora.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import plannery.flora.dto.calendar.CalendarMonthDto;
+import plannery.flora.service.CalendarService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/members/{memberId}/calendar")
+public class CalendarController {
+
+  private final CalendarService calendarService;
+
+  /**
+   * 월별 캘린더 조회
+   *
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID
+   * @param yearMonth   연월 e.g. "2024-09"
+   * @return CalendarMonthDto : 이벤트 목록, 날짜별 투두 수 / 완료 수 / 완료율, 일기 작성 날짜
+   */
+  @GetMapping("/month")
+  public ResponseEntity<CalendarMonthDto> getCalendarMonth(
+      @AuthenticationPrincipal UserDetails userDetails,
+      @PathVariable Long memberId, @RequestParam("yearMonth") String yearMonth) {
+    return ResponseEntity.ok(calendarService.getCalendarMonth(userDetails, memberId, yearMonth));
+  }
+}
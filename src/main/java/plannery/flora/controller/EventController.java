@@ -115,12 +115,13 @@ public class EventController {
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
+   * @param limit       최대 조회 수 (없으면 전체)
    * @return List<DDayDto> : 이벤트ID, 제목, 시작날짜, 남은 날
    */
   @GetMapping("/dday")
   public ResponseEntity<List<DDayDto>> getDDayList(@AuthenticationPrincipal UserDetails userDetails,
-      @PathVariable Long memberId) {
-    return ResponseEntity.ok(eventService.getDDayList(userDetails, memberId));
+      @PathVariable Long memberId, @RequestParam(value = "limit", required = false) Integer limit) {
+    return ResponseEntity.ok(eventService.getDDayList(userDetails, memberId, limit));
   }
 
   /**
@@ -9,6 +9,7 @@ import static plannery.flora.enums.ResponseMessage.SUCCESS_SIGNOUT;
 import static plannery.flora.enums.ResponseMessage.SUCCESS_SIGNUP;
 
 import jakarta.validation.Valid;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
@@ -26,10 +27,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import plannery.flora.dto.member.MemberInfoDto;
-import plannery.flora.dto.member.MemberTokenInfoDto;
 import plannery.flora.dto.member.PasswordChangeDto;
 import plannery.flora.dto.member.SignUpDto;
 import plannery.flora.security.JwtTokenProvider;
+import plannery.flora.security.VerifiedToken;
 import plannery.flora.service.BlacklistTokenService;
 import plannery.flora.service.MemberService;
 
@@ -109,15 +110,15 @@ public class MemberController {
   /**
    * 비밀번호 변경
    *
-   * @param token             JWT 토큰
+   * @param userDetails       사용자 정보
    * @param memberId          회원ID
    * @param passwordChangeDto 현재 비밀번호, 새 비밀번호
    * @return "비밀번호 변경 완료"
    */
   @PutMapping("/{memberId}/password")
-  public ResponseEntity<String> changePassword(@RequestParam String token,
+  public ResponseEntity<String> changePassword(@AuthenticationPrincipal UserDetails userDetails,
       @PathVariable Long memberId, @RequestBody @Validated PasswordChangeDto passwordChangeDto) {
-    memberService.changePassword(token, memberId, passwordChangeDto);
+    memberService.changePassword(userDetails, memberId, passwordChangeDto);
 
     return ResponseEntity.ok(SUCCESS_PASSWORD_CHANGE.getMessage());
   }
@@ -138,14 +139,15 @@ public class MemberController {
   /**
    * 회원 탈퇴 : 관련 DB 전체 삭제
    *
+   * @param token       토큰 정보
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
    * @return "회원 탈퇴 완료"
    */
   @DeleteMapping("/{memberId}")
-  public ResponseEntity<String> deleteMember(@AuthenticationPrincipal UserDetails userDetails,
-      @PathVariable Long memberId) {
-    memberService.deleteMember(userDetails, memberId);
+  public ResponseEntity<String> deleteMember(@RequestHeader("Authorization") String token,
+      @AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId) {
+    memberService.deleteMember(token, userDetails, memberId);
 
     return ResponseEntity.ok(SUCCESS_MEMBER_DELETE.getMessage());
   }
@@ -160,16 +162,17 @@ public class MemberController {
   public ResponseEntity<String> refreshToken(@RequestHeader("Authorization") String authHeader) {
     String token = authHeader.substring("Bearer ".length());
 
-    if (!jwtTokenProvider.validateToken(token)) {
+    Optional<VerifiedToken> verifiedToken = jwtTokenProvider.verifyToken(token);
+
+    if (verifiedToken.isEmpty()) {
       return ResponseEntity.status(UNAUTHORIZED).build();
     }
 
-    blacklistTokenService.addToBlacklist(token);
-
-    MemberTokenInfoDto memberTokenInfoDto = jwtTokenProvider.getUserInfoFromToken(token);
+    // 검증된 토큰 정보를 그대로 사용 : 블랙리스트 추가 시 다시 파싱하지 않음
+    blacklistTokenService.addToBlacklist(verifiedToken.get());
 
-    String newToken = jwtTokenProvider.generateToken(memberTokenInfoDto.getMemberId(),
-        memberTokenInfoDto.getEmail(), memberTokenInfoDto.getRole());
+    String newToken = jwtTokenProvider.generateToken(verifiedToken.get().getMemberId(),
+        verifiedToken.get().getEmail(), verifiedToken.get().getRole());
 
     HttpHeaders httpHeaders = new HttpHeaders();
     httpHeaders.add(HttpHeaders.AUTHORIZATION, "Bearer " + newToken);
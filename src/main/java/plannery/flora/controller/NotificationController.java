@@ -14,10 +14,12 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import plannery.flora.dto.notification.NotificationCreateDto;
 import plannery.flora.dto.notification.NotificationListDto;
+import plannery.flora.dto.notification.NotificationPageDto;
 import plannery.flora.service.NotificationService;
 
 @RestController
@@ -52,7 +54,7 @@ public class NotificationController {
       + ";charset=UTF-8")
   public ResponseEntity<SseEmitter> subscribe(@AuthenticationPrincipal UserDetails userDetails,
       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
-    return ResponseEntity.ok(notificationService.subscribe(userDetails.getUsername(), lastEventId));
+    return ResponseEntity.ok(notificationService.subscribe(userDetails, lastEventId));
   }
 
   /**
@@ -67,4 +69,22 @@ public class NotificationController {
       @AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId) {
     return ResponseEntity.ok(notificationService.getNotifications(userDetails, memberId));
   }
+
+  /**
+   * 알림 목록 조회 (커서 페이지)
+   *
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID
+   * @param cursor      이전 페이지의 마지막 알림ID (첫 페이지면 생략)
+   * @param size        페이지 크기
+   * @return NotificationPageDto : 알림 목록 (알림ID, 메세지, 연월일, 읽음 여부), 다음 커서
+   */
+  @GetMapping("/members/{memberId}/notifications/page")
+  public ResponseEntity<NotificationPageDto> getNotificationPage(
+      @AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId,
+      @RequestParam(value = "cursor", required = false) Long cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+    return ResponseEntity.ok(
+        notificationService.getNotificationPage(userDetails, memberId, cursor, size));
+  }
 }
@@ -6,10 +6,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import plannery.flora.dto.search.SearchPageDto;
 import plannery.flora.dto.search.SearchResultDto;
+import plannery.flora.service.SearchIndexService;
 import plannery.flora.service.SearchService;
 
 @RestController
@@ -18,6 +21,7 @@ import plannery.flora.service.SearchService;
 public class SearchController {
 
   private final SearchService searchService;
+  private final SearchIndexService searchIndexService;
 
   /**
    * 키워드 검색
@@ -31,4 +35,50 @@ public class SearchController {
       @AuthenticationPrincipal UserDetails userDetails) {
     return ResponseEntity.ok(searchService.search(userDetails, keyword));
   }
+
+  /**
+   * 키워드 검색 (커서 페이지)
+   *
+   * @param keyword     키워드
+   * @param cursor      이전 페이지에서 받은 커서 (첫 페이지면 생략)
+   * @param size        페이지 크기
+   * @param userDetails 사용자 정보
+   * @return SearchPageDto : 검색 결과 (path, title, id), 다음 커서
+   */
+  @GetMapping("/page")
+  public ResponseEntity<SearchPageDto> searchPage(@RequestParam String keyword,
+      @RequestParam(value = "cursor", required = false) String cursor,
+      @RequestParam(value = "size", defaultValue = "20") int size,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ResponseEntity.ok(searchService.searchPage(userDetails, keyword, cursor, size));
+  }
+
+  /**
+   * 검색어 자동완성
+   *
+   * @param prefix      접두어
+   * @param size        최대 결과 수
+   * @param userDetails 사용자 정보
+   * @return List<String> : 제목
+   */
+  @GetMapping("/suggestions")
+  public ResponseEntity<List<String>> suggest(@RequestParam String prefix,
+      @RequestParam(value = "size", defaultValue = "10") int size,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ResponseEntity.ok(searchService.suggest(userDetails, prefix, size));
+  }
+
+  /**
+   * 검색 색인 재생성 : 관리자
+   *
+   * @param memberId    회원ID (생략 시 전체 재생성)
+   * @param userDetails 사용자 정보
+   * @return 색인한 문서 수
+   */
+  @PostMapping("/index/rebuild")
+  public ResponseEntity<Integer> rebuildIndex(
+      @RequestParam(value = "memberId", required = false) Long memberId,
+      @AuthenticationPrincipal UserDetails userDetails) {
+    return ResponseEntity.ok(searchIndexService.rebuild(userDetails, memberId));
+  }
 }
@@ -22,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import plannery.flora.dto.todo.TodoCheckDto;
+import plannery.flora.dto.todo.TodoCompleteResultDto;
 import plannery.flora.dto.todo.TodoCreateDto;
 import plannery.flora.dto.todo.TodoResponseDto;
 import plannery.flora.dto.todo.TodoUpdateDto;
@@ -59,7 +60,7 @@ public class TodoController {
    * @param isRoutine   루틴 여부
    * @param todoType    투두타입 (TODO_STUDY, TODO_LIFE)
    * @param date        날짜
-   * @return List<TodoResponseDto> : 투두ID, 제목, 완료 여부
+   * @return List<TodoResponseDto> : 투두ID, 투두 반복ID, 날짜, 제목, 완료 여부
    */
   @GetMapping
   public ResponseEntity<List<TodoResponseDto>> getTodos(
@@ -70,12 +71,29 @@ public class TodoController {
         todoService.getTodos(userDetails, memberId, isRoutine, todoType, date));
   }
 
+  /**
+   * 루틴 투두 저장 : 해당 날짜의 루틴 투두를 TodoEntity로 저장 (이미 저장된 경우 기존 투두ID 반환)
+   *
+   * @param userDetails  사용자 정보
+   * @param memberId     회원ID
+   * @param todoRepeatId 투두 반복ID
+   * @param date         날짜
+   * @return 투두ID
+   */
+  @PostMapping("/routines/{todoRepeatId}")
+  public ResponseEntity<Long> materializeRoutineTodo(
+      @AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId,
+      @PathVariable Long todoRepeatId, @RequestParam LocalDate date) {
+    return ResponseEntity.ok(
+        todoService.materializeRoutineTodo(userDetails, memberId, todoRepeatId, date));
+  }
+
   /**
    * 투두 완료 체크
    *
    * @param userDetails   사용자 정보
    * @param memberId      회원ID
-   * @param todoCheckDtos 투두ID, 완료 여부 목록
+   * @param todoCheckDtos 투두ID(or 투두 반복ID, 날짜), 완료 여부 목록
    * @return "투두 완료 체크 성공"
    */
   @PutMapping("/complete")
@@ -86,6 +104,22 @@ public class TodoController {
     return ResponseEntity.ok(SUCCESS_TODO_COMPLETE.getMessage());
   }
 
+  /**
+   * 투두 일괄 완료 체크 : 완료 상태가 일치하는 투두만 체크하고, 일치하지 않는 투두는 충돌 목록으로 반환
+   *
+   * @param userDetails   사용자 정보
+   * @param memberId      회원ID
+   * @param todoCheckDtos 투두ID(or 투두 반복ID, 날짜), 완료 여부 목록
+   * @return TodoCompleteResultDto : 체크된 투두ID 목록, 충돌 목록
+   */
+  @PutMapping("/complete/bulk")
+  public ResponseEntity<TodoCompleteResultDto> completeTodosInBulk(
+      @AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId,
+      @RequestBody @Valid List<TodoCheckDto> todoCheckDtos) {
+    return ResponseEntity.ok(
+        todoService.completeTodosInBulk(userDetails, memberId, todoCheckDtos));
+  }
+
   /**
    * 투두 개별 조회
    *
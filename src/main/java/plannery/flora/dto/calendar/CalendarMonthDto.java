@@ -0,0 +1,22 @@
+package plannery.flora.dto.calendar;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import plannery.flora.dto.event.EventListDto;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarMonthDto {
+
+  private List<EventListDto> events;
+
+  private List<CalendarTodoDto> todos;
+
+  private List<LocalDate> diaryDates;
+}
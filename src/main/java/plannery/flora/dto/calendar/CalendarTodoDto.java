@@ -0,0 +1,23 @@
+package plannery.flora.dto.calendar;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarTodoDto {
+
+  private LocalDate date;
+
+  private long totalCount;
+
+  private long completedCount;
+
+  // 완료율 (0.0 ~ 1.0)
+  private double completionRate;
+}
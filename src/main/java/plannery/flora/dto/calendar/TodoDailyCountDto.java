@@ -0,0 +1,23 @@
+package plannery.flora.dto.calendar;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoDailyCountDto {
+
+  private LocalDate date;
+
+  private Long totalCount;
+
+  private Long completedCount;
+
+  // 저장된 루틴 투두 수 : 저장되지 않은 루틴 투두 수 계산용
+  private Long routineCount;
+}
@@ -1,6 +1,7 @@
 package plannery.flora.dto.event;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,4 +20,12 @@ public class DDayDto {
   private LocalDate startDate;
 
   private int remain;
+
+  // JPQL 생성자 표현식용
+  public DDayDto(Long eventId, String title, LocalDateTime startDateTime, Integer remain) {
+    this.eventId = eventId;
+    this.title = title;
+    this.startDate = startDateTime.toLocalDate();
+    this.remain = remain;
+  }
 }
@@ -1,13 +1,19 @@
 package plannery.flora.dto.event;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import plannery.flora.enums.RepeatFrequency;
 
 @Getter
 @Builder
@@ -36,4 +42,20 @@ public class EventCreateDto {
   @JsonProperty("isAllDay")
   @NotNull(message = "하루종일 설정 여부는 빈 값일 수 없습니다.")
   private boolean isAllDay;
+
+  // 반복 설정 : repeatFrequency가 없으면 반복하지 않음
+  private RepeatFrequency repeatFrequency;
+
+  @Min(value = 1, message = "반복 간격은 1 이상이어야 합니다.")
+  private Integer repeatInterval;
+
+  private Set<DayOfWeek> repeatDays;
+
+  private LocalDate repeatUntil;
+
+  @Min(value = 1, message = "반복 횟수는 1 이상이어야 합니다.")
+  @Max(value = 1000, message = "반복 횟수는 1000 이하여야 합니다.")
+  private Integer repeatCount;
+
+  private Set<LocalDate> excludedDates;
 }
@@ -0,0 +1,21 @@
+package plannery.flora.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+
+  private Long notificationId;
+
+  private String message;
+
+  private String eventId;
+
+  private boolean isGlobal;
+}
@@ -2,6 +2,7 @@ package plannery.flora.dto.notification;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,10 +14,21 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class NotificationListDto {
 
+  private Long notificationId;
+
   private String message;
   
   private LocalDate date;
 
   @JsonProperty("isRead")
   private boolean isRead;
+
+  // JPQL 생성자 표현식용
+  public NotificationListDto(Long notificationId, String message, LocalDateTime createdAt,
+      Boolean isRead) {
+    this.notificationId = notificationId;
+    this.message = message;
+    this.date = createdAt.toLocalDate();
+    this.isRead = isRead;
+  }
 }
@@ -0,0 +1,97 @@
+package plannery.flora.dto.search;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import plannery.flora.entity.DiaryEntity;
+import plannery.flora.entity.EventEntity;
+import plannery.flora.entity.PromiseEntity;
+import plannery.flora.entity.TodoEntity;
+import plannery.flora.entity.TodoRepeatEntity;
+import plannery.flora.enums.SearchType;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+
+  private SearchType type;
+
+  private Long id;
+
+  private Long memberId;
+
+  private String title;
+
+  private String content;
+
+  // 투두 : 루틴 일괄 삭제 시 색인 삭제용
+  private Long todoRepeatId;
+
+  private LocalDate todoDate;
+
+  /**
+   * 검색 대상 엔티티를 색인 문서로 변환
+   *
+   * @param entity 엔티티
+   * @return SearchDocument (검색 대상이 아니면 null)
+   */
+  public static SearchDocument from(Object entity) {
+    if (entity instanceof DiaryEntity diary) {
+      return SearchDocument.builder()
+          .type(SearchType.DIARY)
+          .id(diary.getId())
+          .memberId(diary.getMember().getId())
+          .title(diary.getTitle())
+          .content(diary.getContent())
+          .build();
+    }
+
+    if (entity instanceof EventEntity event) {
+      return SearchDocument.builder()
+          .type(SearchType.EVENT)
+          .id(event.getId())
+          .memberId(event.getMember().getId())
+          .title(event.getTitle())
+          .content(event.getDescription())
+          .build();
+    }
+
+    if (entity instanceof PromiseEntity promise && promise.getMember() != null) {
+      return SearchDocument.builder()
+          .type(SearchType.PROMISE)
+          .id(promise.getId())
+          .memberId(promise.getMember().getId())
+          .title(promise.getContent())
+          .build();
+    }
+
+    if (entity instanceof TodoEntity todo) {
+      return SearchDocument.builder()
+          .type(SearchType.TODO)
+          .id(todo.getId())
+          .memberId(todo.getMember().getId())
+          .title(todo.getTitle())
+          .content(todo.getDescription())
+          .todoRepeatId(todo.getTodoRepeat() == null ? null : todo.getTodoRepeat().getId())
+          .todoDate(todo.getTodoDate())
+          .build();
+    }
+
+    // 루틴 : 날짜별 투두는 저장되지 않으므로 루틴 자체를 한 번 색인
+    if (entity instanceof TodoRepeatEntity todoRepeat) {
+      return SearchDocument.builder()
+          .type(SearchType.ROUTINE)
+          .id(todoRepeat.getId())
+          .memberId(todoRepeat.getMember().getId())
+          .title(todoRepeat.getTitle())
+          .content(todoRepeat.getDescription())
+          .build();
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,33 @@
+package plannery.flora.dto.search;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import plannery.flora.enums.SearchIndexOperation;
+import plannery.flora.enums.SearchType;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchIndexEvent {
+
+  private SearchIndexOperation operation;
+
+  private Long memberId;
+
+  // INDEX : 색인 문서
+  private SearchDocument document;
+
+  // DELETE : 검색 타입, 엔티티ID
+  private SearchType type;
+
+  private Long id;
+
+  // DELETE_TODOS_BY_REPEAT : 투두 반복ID, 삭제 시작 날짜 (전체 삭제면 null)
+  private Long todoRepeatId;
+
+  private LocalDate fromDate;
+}
@@ -0,0 +1,19 @@
+package plannery.flora.dto.search;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPageDto {
+
+  private List<SearchResultDto> results;
+
+  // 다음 페이지 조회 시 cursor로 전달 (마지막 페이지면 null)
+  private String nextCursor;
+}
@@ -1,6 +1,7 @@
 package plannery.flora.dto.timer;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,9 +13,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class TimerCreateDto {
 
-  @NotNull
   private Long todoId;
 
+  private Long todoRepeatId;
+
+  private LocalDate todoDate;
+
   @NotNull
   private long duration;
 }
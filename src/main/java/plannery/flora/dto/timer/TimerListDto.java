@@ -13,6 +13,8 @@ public class TimerListDto {
 
   private Long todoId;
 
+  private Long todoRepeatId;
+
   private String title;
 
   private Long timerId;
@@ -0,0 +1,25 @@
+package plannery.flora.dto.todo;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import plannery.flora.exception.ErrorCode;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoCheckConflictDto {
+
+  private Long todoId;
+
+  private Long todoRepeatId;
+
+  private LocalDate todoDate;
+
+  private ErrorCode errorCode;
+
+  private String message;
+}
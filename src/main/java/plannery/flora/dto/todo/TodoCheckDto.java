@@ -1,6 +1,7 @@
 package plannery.flora.dto.todo;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,10 @@ public class TodoCheckDto {
 
   private Long todoId;
 
+  private Long todoRepeatId;
+
+  private LocalDate todoDate;
+
   @JsonProperty("isCompleted")
   private boolean isCompleted;
 }
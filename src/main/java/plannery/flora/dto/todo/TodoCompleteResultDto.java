@@ -0,0 +1,18 @@
+package plannery.flora.dto.todo;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoCompleteResultDto {
+
+  private List<Long> checkedTodoIds;
+
+  private List<TodoCheckConflictDto> conflicts;
+}
@@ -1,6 +1,7 @@
 package plannery.flora.dto.todo;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,6 +15,10 @@ public class TodoResponseDto {
 
   private Long todoId;
 
+  private Long todoRepeatId;
+
+  private LocalDate todoDate;
+
   private String title;
 
   private String indexColor;
@@ -1,25 +1,39 @@
 package plannery.flora.entity;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import plannery.flora.component.SearchIndexListener;
+import plannery.flora.enums.RepeatFrequency;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "event")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "event", indexes = @Index(
+    name = "idx_event_member_period", columnList = "member_id, start_date_time, end_date_time"))
 public class EventEntity extends BaseEntity {
 
   @Id
@@ -51,6 +65,33 @@ public class EventEntity extends BaseEntity {
   @JoinColumn(name = "member_id", nullable = false)
   private MemberEntity member;
 
+  // 반복 주기 : null이면 반복하지 않는 이벤트 (시작일시, 종료일시는 첫 번째 반복의 기간)
+  @Enumerated(EnumType.STRING)
+  private RepeatFrequency repeatFrequency;
+
+  // 반복 간격 : e.g. WEEKLY, 2 -> 2주마다
+  private Integer repeatInterval;
+
+  // 반복 요일 : WEEKLY만 사용, 비어있으면 시작일의 요일
+  @Builder.Default
+  @ElementCollection
+  @CollectionTable(name = "event_repeat_day", joinColumns = @JoinColumn(name = "event_id"))
+  @Enumerated(EnumType.STRING)
+  @Column(name = "repeat_day")
+  private Set<DayOfWeek> repeatDays = new HashSet<>();
+
+  // 반복 종료 날짜 (이 날짜까지 시작하는 반복 포함)
+  private LocalDate repeatUntil;
+
+  // 반복 횟수 : 제외 날짜도 횟수에 포함
+  private Integer repeatCount;
+
+  @Builder.Default
+  @ElementCollection
+  @CollectionTable(name = "event_excluded_date", joinColumns = @JoinColumn(name = "event_id"))
+  @Column(name = "excluded_date")
+  private Set<LocalDate> excludedDates = new HashSet<>();
+
   public void updateEvent(String newTitle, String newDescription, LocalDateTime newStartDateTime,
       LocalDateTime newEndDateTime, String newIndexColor, boolean newIsDDay, boolean newIsAllDay) {
     this.title = newTitle;
@@ -61,4 +102,21 @@ public class EventEntity extends BaseEntity {
     this.isDDay = newIsDDay;
     this.isAllDay = newIsAllDay;
   }
+
+  public void updateRepeat(RepeatFrequency newRepeatFrequency, Integer newRepeatInterval,
+      Set<DayOfWeek> newRepeatDays, LocalDate newRepeatUntil, Integer newRepeatCount,
+      Set<LocalDate> newExcludedDates) {
+    this.repeatFrequency = newRepeatFrequency;
+    this.repeatInterval = newRepeatInterval;
+    this.repeatDays.clear();
+    this.repeatDays.addAll(newRepeatDays);
+    this.repeatUntil = newRepeatUntil;
+    this.repeatCount = newRepeatCount;
+    this.excludedDates.clear();
+    this.excludedDates.addAll(newExcludedDates);
+  }
+
+  public boolean isRepeated() {
+    return repeatFrequency != null;
+  }
 }
@@ -39,6 +39,9 @@ public class MemberEntity extends BaseEntity {
   @Enumerated(EnumType.STRING)
   private UserRole role;
 
+  // 마지막으로 읽은 전체 알림ID : 이 값 이하의 전체 알림은 읽음 처리된 것으로 간주
+  private Long lastReadNotificationId;
+
   @OneToMany(mappedBy = "member", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<ImageEntity> images;
 
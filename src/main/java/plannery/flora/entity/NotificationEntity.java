@@ -28,4 +28,8 @@ public class NotificationEntity extends BaseEntity {
 
   @Column(nullable = false, unique = true)
   private String eventId;
+
+  // 전체 알림 : 회원별 NotificationListEntity 없이 한 번만 저장, 읽음 여부는 회원의 마지막 읽은 알림ID로 계산
+  @Column(nullable = false)
+  private boolean isGlobal;
 }
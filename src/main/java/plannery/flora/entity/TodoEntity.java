@@ -3,12 +3,14 @@ package plannery.flora.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -18,6 +20,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import plannery.flora.component.SearchIndexListener;
 import plannery.flora.enums.TodoType;
 
 @Entity
@@ -25,7 +28,9 @@ import plannery.flora.enums.TodoType;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "todo")
+@EntityListeners(SearchIndexListener.class)
+@Table(name = "todo", indexes = @Index(
+    name = "uk_todo_repeat_date", columnList = "todo_repeat_id, todo_date", unique = true))
 public class TodoEntity extends BaseEntity {
 
   @Id
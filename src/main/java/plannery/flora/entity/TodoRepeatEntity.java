@@ -1,8 +1,10 @@
 package plannery.flora.entity;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
@@ -14,11 +16,14 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import plannery.flora.component.SearchIndexListener;
 import plannery.flora.enums.TodoType;
 
 @Entity
@@ -26,6 +31,7 @@ import plannery.flora.enums.TodoType;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(SearchIndexListener.class)
 @Table(name = "todo_repeat")
 public class TodoRepeatEntity extends BaseEntity {
 
@@ -59,18 +65,50 @@ public class TodoRepeatEntity extends BaseEntity {
   @Column(nullable = false)
   private LocalDate endDate;
 
+  // Set : 제외 날짜와 함께 fetch join 해도 중복되지 않음
+  @Builder.Default
   @ElementCollection(fetch = FetchType.EAGER)
   @Enumerated(EnumType.STRING)
-  private List<DayOfWeek> repeatDays;
+  private Set<DayOfWeek> repeatDays = new HashSet<>();
+
+  @Builder.Default
+  @ElementCollection
+  @CollectionTable(name = "todo_repeat_excluded_date",
+      joinColumns = @JoinColumn(name = "todo_repeat_id"))
+  @Column(name = "excluded_date")
+  private Set<LocalDate> excludedDates = new HashSet<>();
 
   public void updateTodoRepeat(String newTitle, String newDescription, TodoType newTodoType,
       String newIndexColor, LocalDate newEndDate,
-      List<DayOfWeek> newRepeatDays) {
+      Collection<DayOfWeek> newRepeatDays) {
     this.title = newTitle;
     this.description = newDescription;
     this.todoType = newTodoType;
     this.indexColor = newIndexColor;
     this.endDate = newEndDate;
-    this.repeatDays = newRepeatDays;
+    this.repeatDays.clear();
+    if (newRepeatDays != null) {
+      this.repeatDays.addAll(newRepeatDays);
+    }
+  }
+
+  public void updateEndDate(LocalDate newEndDate) {
+    this.endDate = newEndDate;
+  }
+
+  public void addExcludedDate(LocalDate excludedDate) {
+    this.excludedDates.add(excludedDate);
+  }
+
+  /**
+   * 해당 날짜에 루틴이 반복되는지 여부 : 기간, 반복 요일, 제외 날짜 확인
+   *
+   * @param date 날짜
+   * @return 반복 여부
+   */
+  public boolean occursOn(LocalDate date) {
+    return !date.isBefore(startDate) && !date.isAfter(endDate)
+        && repeatDays.contains(date.getDayOfWeek())
+        && !excludedDates.contains(date);
   }
 }
@@ -0,0 +1,8 @@
+package plannery.flora.enums;
+
+public enum RepeatFrequency {
+  DAILY,
+  WEEKLY,
+  MONTHLY,
+  YEARLY
+}
@@ -0,0 +1,7 @@
+package plannery.flora.enums;
+
+public enum SearchIndexOperation {
+  INDEX,
+  DELETE,
+  DELETE_TODOS_BY_REPEAT
+}
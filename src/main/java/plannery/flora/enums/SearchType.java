@@ -0,0 +1,16 @@
+package plannery.flora.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SearchType {
+  DIARY("캘린더 > 오늘의 일기"),
+  EVENT("캘린더 > 이벤트"),
+  PROMISE("대시보드 > 목표/다짐"),
+  TODO("캘린더 > Todolist"),
+  ROUTINE("캘린더 > Todolist > 루틴");
+
+  private final String path;
+}
@@ -27,11 +27,15 @@ public enum ErrorCode {
   DIARY_EXISTS(400, "해당 날짜에 일기가 이미 존재합니다."),
   EVENT_NOT_FOUND(404, "해당 이벤트가 존재하지 않습니다."),
   INVALID_DATETIME(400, "종료일시는 시작일시보다 앞설 수 없습니다."),
+  INVALID_EVENT_REPEAT(400, "유효하지 않은 이벤트 반복 설정입니다."),
   FLORA_NOT_FOUND(404, "해당 회원의 플로라를 찾을 수 없습니다."),
   FLORA_EXISTS(400, "플로라가 이미 존재합니다."),
   TODO_NOT_FOUND(404, "투두 엔티티가 존재하지 않습니다."),
   TODO_COMPLETED_CHECK_MISS(409, "투두의 완료 상태가 일치하지 않습니다."),
-  TODO_REPEAT_NOT_FOUND(404, "투두 반복 엔티티가 존재하지 않습니다.");
+  TODO_REPEAT_NOT_FOUND(404, "투두 반복 엔티티가 존재하지 않습니다."),
+  TODO_OCCURRENCE_NOT_FOUND(404, "해당 날짜에 반복되는 루틴 투두가 존재하지 않습니다."),
+  SEARCH_FAILED(500, "검색 중 오류가 발생했습니다."),
+  INVALID_SEARCH_CURSOR(400, "유효하지 않은 검색 커서입니다.");
 
   private final int status;
   private final String message;
@@ -1,7 +1,10 @@
 package plannery.flora.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +14,21 @@ import plannery.flora.entity.DiaryEntity;
 @Repository
 public interface DiaryRepository extends JpaRepository<DiaryEntity, Long> {
 
+  // 검색 색인 보정용
+  @Query("SELECT d.id FROM DiaryEntity d")
+  List<Long> findAllIds();
+
+  Page<DiaryEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt, Pageable pageable);
+
   @Query("SELECT d FROM DiaryEntity d WHERE d.member.id = :memberId")
   List<DiaryEntity> findAllByMemberId(@Param("memberId") Long memberId);
 
   @Query("SELECT CASE WHEN COUNT(d) > 0 THEN true ELSE false END FROM DiaryEntity d WHERE d.member.id = :memberId AND d.date = :date")
   boolean existsByMemberIdAndDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
 
-  List<DiaryEntity> findByMemberIdAndTitleContainingOrMemberIdAndContentContaining(
-      Long memberId1, String keyword1, Long memberId2, String keyword2);
+  @Query("SELECT d.date FROM DiaryEntity d WHERE d.member.id = :memberId " +
+      "AND d.date BETWEEN :startDate AND :endDate ORDER BY d.date")
+  List<LocalDate> findDatesWithinPeriod(@Param("memberId") Long memberId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
 }
@@ -1,33 +1,58 @@
 package plannery.flora.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import plannery.flora.dto.event.DDayDto;
 import plannery.flora.entity.EventEntity;
 
 @Repository
 public interface EventRepository extends JpaRepository<EventEntity, Long> {
 
+  // 검색 색인 보정용
+  @Query("SELECT e.id FROM EventEntity e")
+  List<Long> findAllIds();
+
+  Page<EventEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt, Pageable pageable);
+
   List<EventEntity> findAllByMemberId(Long memberId);
 
-  List<EventEntity> findAllByMemberIdAndStartDateTimeLessThanEqualAndEndDateTimeGreaterThanEqualOrStartDateTimeBetweenOrEndDateTimeBetween(
-      Long memberId, LocalDateTime startOfDay, LocalDateTime endOfDay,
-      LocalDateTime startRange1, LocalDateTime endRange1,
-      LocalDateTime startRange2, LocalDateTime endRange2);
+  List<EventEntity> findAllByMemberIdAndRepeatFrequencyIsNull(Long memberId);
 
-  @Query("SELECT e FROM EventEntity e WHERE e.member.id = :memberId " +
-      "AND (e.startDateTime <= :endDate AND e.endDateTime >= :startDate)")
-  List<EventEntity> findEventsForMemberWithinMonth(@Param("memberId") Long memberId,
+  @Query("SELECT e FROM EventEntity e WHERE e.member.id = :memberId AND e.repeatFrequency IS NULL " +
+      "AND e.startDateTime <= :endDate AND e.endDateTime >= :startDate")
+  List<EventEntity> findEventsWithinPeriod(@Param("memberId") Long memberId,
       @Param("startDate") LocalDateTime startDate,
       @Param("endDate") LocalDateTime endDate);
 
-  @Query("SELECT e FROM EventEntity e WHERE e.member.id = :memberId AND e.isDDay = true AND e.startDateTime >= :todayStartOfDay")
-  List<EventEntity> findDDayEventsByMemberId(@Param("memberId") Long memberId,
-      @Param("todayStartOfDay") LocalDateTime todayStartOfDay);
+  @Query("SELECT DISTINCT e FROM EventEntity e " +
+      "LEFT JOIN FETCH e.repeatDays LEFT JOIN FETCH e.excludedDates " +
+      "WHERE e.member.id = :memberId AND e.repeatFrequency IS NOT NULL")
+  List<EventEntity> findAllRepeatedByMemberId(@Param("memberId") Long memberId);
+
+  // 조회 기간에 반복이 남아 있는 규칙만 : 마지막 반복(반복 종료 날짜에 시작)이 조회 시작 전에 끝난 규칙 제외
+  @Query("SELECT DISTINCT e FROM EventEntity e " +
+      "LEFT JOIN FETCH e.repeatDays LEFT JOIN FETCH e.excludedDates " +
+      "WHERE e.member.id = :memberId AND e.repeatFrequency IS NOT NULL " +
+      "AND e.startDateTime <= :endDate " +
+      "AND (e.repeatUntil IS NULL OR FUNCTION('DATEDIFF', :startDate, e.repeatUntil) " +
+      "<= FUNCTION('DATEDIFF', e.endDateTime, e.startDateTime))")
+  List<EventEntity> findRepeatedEventsWithinPeriod(@Param("memberId") Long memberId,
+      @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-  List<EventEntity> findByMemberIdAndTitleContainingOrMemberIdAndDescriptionContaining(
-      Long memberId1, String keyword1, Long memberId2, String keyword2);
+  @Query("SELECT new plannery.flora.dto.event.DDayDto(e.id, e.title, e.startDateTime, " +
+      "CAST(FUNCTION('DATEDIFF', e.startDateTime, :today) AS Integer)) " +
+      "FROM EventEntity e " +
+      "WHERE e.member.id = :memberId AND e.isDDay = true AND e.startDateTime >= :todayStartOfDay " +
+      "ORDER BY e.startDateTime, e.id")
+  List<DDayDto> findDDaysByMemberId(@Param("memberId") Long memberId,
+      @Param("today") LocalDate today,
+      @Param("todayStartOfDay") LocalDateTime todayStartOfDay,
+      Pageable pageable);
 }
@@ -1,12 +1,32 @@
 package plannery.flora.repository;
 
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import plannery.flora.entity.MemberEntity;
+import plannery.flora.enums.UserRole;
 
 @Repository
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 
   Optional<MemberEntity> findByEmail(String email);
+
+  @Query("SELECT m.id FROM MemberEntity m WHERE m.role = :role AND m.id > :lastId ORDER BY m.id")
+  List<Long> findIdsByRoleAfter(@Param("role") UserRole role, @Param("lastId") Long lastId,
+      Pageable pageable);
+
+  @Query("SELECT m.lastReadNotificationId FROM MemberEntity m WHERE m.id = :memberId")
+  Optional<Long> findLastReadNotificationId(@Param("memberId") Long memberId);
+
+  @Modifying
+  @Query("UPDATE MemberEntity m SET m.lastReadNotificationId = :notificationId " +
+      "WHERE m.id = :memberId " +
+      "AND (m.lastReadNotificationId IS NULL OR m.lastReadNotificationId < :notificationId)")
+  int updateLastReadNotificationId(@Param("memberId") Long memberId,
+      @Param("notificationId") Long notificationId);
 }
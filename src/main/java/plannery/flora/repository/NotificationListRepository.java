@@ -1,13 +1,49 @@
 package plannery.flora.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import plannery.flora.dto.notification.NotificationListDto;
 import plannery.flora.entity.NotificationListEntity;
 
 @Repository
 public interface NotificationListRepository extends JpaRepository<NotificationListEntity, Long> {
 
-  List<NotificationListEntity> findAllByMemberId(Long memberId);
+  @Query("SELECT nl FROM NotificationListEntity nl JOIN FETCH nl.notification " +
+      "WHERE nl.member.id = :memberId")
+  List<NotificationListEntity> findAllByMemberId(@Param("memberId") Long memberId);
+
+  @Query("SELECT new plannery.flora.dto.notification.NotificationListDto(" +
+      "n.id, n.message, n.createdAt, nl.isRead) " +
+      "FROM NotificationListEntity nl JOIN nl.notification n " +
+      "WHERE nl.member.id = :memberId AND n.id < :cursor ORDER BY n.id DESC")
+  List<NotificationListDto> findPageByMemberId(@Param("memberId") Long memberId,
+      @Param("cursor") Long cursor, Pageable pageable);
+
+  // 조회된 알림만 읽음 처리 : 조회 이후 추가된 알림, 다음 페이지의 알림은 제외
+  @Modifying
+  @Query("UPDATE NotificationListEntity nl SET nl.isRead = true " +
+      "WHERE nl.member.id = :memberId AND nl.isRead = false " +
+      "AND nl.notification.id BETWEEN :fromNotificationId AND :toNotificationId")
+  int markAsReadBetween(@Param("memberId") Long memberId,
+      @Param("fromNotificationId") Long fromNotificationId,
+      @Param("toNotificationId") Long toNotificationId);
+
+  @Modifying
+  @Query(value = "INSERT INTO notification_list " +
+      "(is_read, member_id, notification_id, created_at, updated_at) " +
+      "SELECT false, m.id, :notificationId, :now, :now FROM member m " +
+      "WHERE m.role = :role AND m.id BETWEEN :fromMemberId AND :toMemberId",
+      nativeQuery = true)
+  int insertAllForMembers(@Param("notificationId") Long notificationId,
+      @Param("role") String role,
+      @Param("fromMemberId") Long fromMemberId,
+      @Param("toMemberId") Long toMemberId,
+      @Param("now") LocalDateTime now);
 
 }
@@ -1,13 +1,38 @@
 package plannery.flora.repository;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import plannery.flora.dto.notification.NotificationListDto;
 import plannery.flora.entity.NotificationEntity;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
 
-  List<NotificationEntity> findAllByEventIdAfter(String lastEventId);
+  @Query("SELECT n FROM NotificationEntity n, MemberEntity m " +
+      "WHERE m.id = :memberId AND n.isGlobal = true AND n.createdAt >= m.createdAt " +
+      "ORDER BY n.id")
+  List<NotificationEntity> findAllGlobalForMember(@Param("memberId") Long memberId);
+
+  @Query("SELECT new plannery.flora.dto.notification.NotificationListDto(" +
+      "n.id, n.message, n.createdAt, " +
+      "CASE WHEN n.id <= COALESCE(m.lastReadNotificationId, 0) THEN true ELSE false END) " +
+      "FROM NotificationEntity n, MemberEntity m " +
+      "WHERE m.id = :memberId AND n.isGlobal = true AND n.createdAt >= m.createdAt " +
+      "AND n.id < :cursor ORDER BY n.id DESC")
+  List<NotificationListDto> findGlobalPageForMember(@Param("memberId") Long memberId,
+      @Param("cursor") Long cursor, Pageable pageable);
+
+  @Query("SELECT n FROM NotificationEntity n WHERE n.isGlobal = true AND n.id > :lastId " +
+      "ORDER BY n.id")
+  List<NotificationEntity> findGlobalAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+  @Query("SELECT n FROM NotificationListEntity nl JOIN nl.notification n " +
+      "WHERE nl.member.id = :memberId AND n.id > :lastId ORDER BY n.id")
+  List<NotificationEntity> findMemberNotificationsAfter(@Param("memberId") Long memberId,
+      @Param("lastId") Long lastId, Pageable pageable);
 
 }
@@ -1,7 +1,10 @@
 package plannery.flora.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +14,12 @@ import plannery.flora.entity.PromiseEntity;
 @Repository
 public interface PromiseRepository extends JpaRepository<PromiseEntity, Long> {
 
+  // 검색 색인 보정용
+  @Query("SELECT p.id FROM PromiseEntity p WHERE p.member IS NOT NULL")
+  List<Long> findAllIds();
+
+  Page<PromiseEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt, Pageable pageable);
+
   @Query("SELECT p FROM PromiseEntity p WHERE p.member.id = :memberId")
   Optional<PromiseEntity> findByMemberId(@Param("memberId") Long memberId);
-
-  List<PromiseEntity> findByMemberIdAndContentContaining(Long memberId, String keyword);
 }
@@ -1,13 +1,48 @@
 package plannery.flora.repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import plannery.flora.dto.timer.TimerListDto;
 import plannery.flora.entity.TimerEntity;
 import plannery.flora.entity.TodoEntity;
+import plannery.flora.entity.TodoRepeatEntity;
+import plannery.flora.enums.TodoType;
 
 @Repository
 public interface TimerRepository extends JpaRepository<TimerEntity, Long> {
 
   Optional<TimerEntity> findByTodo(TodoEntity todo);
+
+  @Query("SELECT new plannery.flora.dto.timer.TimerListDto(" +
+      "t.id, r.id, t.title, tm.id, COALESCE(tm.duration, 0L)) " +
+      "FROM TodoEntity t LEFT JOIN t.todoRepeat r LEFT JOIN t.timer tm " +
+      "WHERE t.member.id = :memberId " +
+      "AND t.todoType = :todoType " +
+      "AND t.todoDate = :date " +
+      "AND (:isRoutine IS TRUE AND t.todoRepeat IS NOT NULL OR :isRoutine IS FALSE AND t.todoRepeat IS NULL)")
+  List<TimerListDto> findTimersByCriteria(@Param("memberId") Long memberId,
+      @Param("todoType") TodoType todoType,
+      @Param("date") LocalDate date,
+      @Param("isRoutine") boolean isRoutine);
+
+  @Query("SELECT COALESCE(SUM(tm.duration), 0L) FROM TimerEntity tm " +
+      "WHERE tm.todo.member.id = :memberId AND tm.todo.todoDate = :date")
+  long sumDurationByDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM TimerEntity tm WHERE tm.todo.id IN " +
+      "(SELECT t.id FROM TodoEntity t WHERE t.todoRepeat = :todoRepeat AND t.todoDate > :baseDate)")
+  int deleteAllByTodoRepeatAfter(@Param("todoRepeat") TodoRepeatEntity todoRepeatEntity,
+      @Param("baseDate") LocalDate baseDate);
+
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM TimerEntity tm WHERE tm.todo.id IN " +
+      "(SELECT t.id FROM TodoEntity t WHERE t.todoRepeat = :todoRepeat)")
+  int deleteAllByTodoRepeat(@Param("todoRepeat") TodoRepeatEntity todoRepeatEntity);
 }
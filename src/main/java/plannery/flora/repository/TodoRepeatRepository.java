@@ -1,10 +1,45 @@
 package plannery.flora.repository;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import plannery.flora.entity.TodoRepeatEntity;
+import plannery.flora.enums.TodoType;
 
 @Repository
 public interface TodoRepeatRepository extends JpaRepository<TodoRepeatEntity, Long> {
 
+  // 검색 색인 보정용
+  @Query("SELECT r.id FROM TodoRepeatEntity r")
+  List<Long> findAllIds();
+
+  Page<TodoRepeatEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt, Pageable pageable);
+
+  List<TodoRepeatEntity> findAllByMemberId(Long memberId);
+
+  @Query("SELECT DISTINCT r FROM TodoRepeatEntity r JOIN r.repeatDays d " +
+      "WHERE r.member.id = :memberId " +
+      "AND r.todoType = :todoType " +
+      "AND r.startDate <= :date AND r.endDate >= :date " +
+      "AND d = :dayOfWeek " +
+      "AND :date NOT MEMBER OF r.excludedDates " +
+      "AND NOT EXISTS (SELECT t FROM TodoEntity t WHERE t.todoRepeat = r AND t.todoDate = :date)")
+  List<TodoRepeatEntity> findVirtualOccurrences(@Param("memberId") Long memberId,
+      @Param("todoType") TodoType todoType,
+      @Param("date") LocalDate date,
+      @Param("dayOfWeek") DayOfWeek dayOfWeek);
+
+  @Query("SELECT DISTINCT r FROM TodoRepeatEntity r " +
+      "LEFT JOIN FETCH r.repeatDays LEFT JOIN FETCH r.excludedDates " +
+      "WHERE r.member.id = :memberId AND r.startDate <= :endDate AND r.endDate >= :startDate")
+  List<TodoRepeatEntity> findAllWithinPeriod(@Param("memberId") Long memberId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
 }
@@ -1,11 +1,21 @@
 package plannery.flora.repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import plannery.flora.dto.calendar.TodoDailyCountDto;
+import plannery.flora.dto.todo.TodoStateDto;
 import plannery.flora.entity.TodoEntity;
 import plannery.flora.entity.TodoRepeatEntity;
 import plannery.flora.enums.TodoType;
@@ -13,7 +23,55 @@ import plannery.flora.enums.TodoType;
 @Repository
 public interface TodoRepository extends JpaRepository<TodoEntity, Long> {
 
-  List<TodoEntity> findAllByTodoRepeat(TodoRepeatEntity todoRepeatEntity);
+  // 검색 색인 보정용
+  @Query("SELECT t.id FROM TodoEntity t")
+  List<Long> findAllIds();
+
+  Page<TodoEntity> findAllByUpdatedAtAfter(LocalDateTime updatedAt, Pageable pageable);
+
+  List<TodoEntity> findAllByMemberId(Long memberId);
+
+  @Query("SELECT new plannery.flora.dto.calendar.TodoDailyCountDto(t.todoDate, COUNT(t), " +
+      "SUM(CASE WHEN t.isCompleted = true THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN t.todoRepeat IS NOT NULL THEN 1 ELSE 0 END)) " +
+      "FROM TodoEntity t " +
+      "WHERE t.member.id = :memberId AND t.todoDate BETWEEN :startDate AND :endDate " +
+      "GROUP BY t.todoDate")
+  List<TodoDailyCountDto> countDailyTodos(@Param("memberId") Long memberId,
+      @Param("startDate") LocalDate startDate,
+      @Param("endDate") LocalDate endDate);
+
+  Optional<TodoEntity> findByTodoRepeatIdAndTodoDate(Long todoRepeatId, LocalDate todoDate);
+
+  // 루틴 투두 저장 : 이미 저장된 경우 (todo_repeat_id, todo_date) unique 제약으로 저장하지 않음
+  @Modifying(flushAutomatically = true)
+  @Query(value = "INSERT INTO todo " +
+      "(member_id, title, description, todo_type, todo_date, index_color, is_completed, " +
+      "todo_repeat_id, created_at, updated_at) " +
+      "SELECT r.member_id, r.title, r.description, r.todo_type, :todoDate, r.index_color, " +
+      "false, r.id, :now, :now FROM todo_repeat r WHERE r.id = :todoRepeatId " +
+      "ON DUPLICATE KEY UPDATE todo.id = todo.id",
+      nativeQuery = true)
+  int insertRoutineTodoIfAbsent(@Param("todoRepeatId") Long todoRepeatId,
+      @Param("todoDate") LocalDate todoDate,
+      @Param("now") LocalDateTime now);
+
+  // 잠금 조회 : 현재 트랜잭션의 스냅샷이 아닌 최신 커밋된 행 조회
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("SELECT t FROM TodoEntity t " +
+      "WHERE t.todoRepeat.id = :todoRepeatId AND t.todoDate = :todoDate")
+  Optional<TodoEntity> findCommittedByTodoRepeatIdAndTodoDate(
+      @Param("todoRepeatId") Long todoRepeatId, @Param("todoDate") LocalDate todoDate);
+
+  // 일괄 삭제 후 영속성 컨텍스트 초기화 : 삭제된 TodoEntity가 관리 상태로 남아 다시 flush / 조회되지 않도록 함
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM TodoEntity t WHERE t.todoRepeat = :todoRepeat AND t.todoDate > :baseDate")
+  int deleteAllByTodoRepeatAfter(@Param("todoRepeat") TodoRepeatEntity todoRepeatEntity,
+      @Param("baseDate") LocalDate baseDate);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM TodoEntity t WHERE t.todoRepeat = :todoRepeat")
+  int deleteAllByTodoRepeat(@Param("todoRepeat") TodoRepeatEntity todoRepeatEntity);
 
   @Query("SELECT t FROM TodoEntity t " +
       "WHERE t.member.id = :memberId " +
@@ -27,10 +85,17 @@ public interface TodoRepository extends JpaRepository<TodoEntity, Long> {
 
   List<TodoEntity> findAllById(Iterable<Long> ids);
 
-  @Query("SELECT t FROM TodoEntity t WHERE t.member.id = :memberId AND t.todoDate = :today")
-  List<TodoEntity> findTodosByDate(@Param("memberId") Long memberId,
-      @Param("today") LocalDate today);
+  // 완료 체크용 : 커밋까지 행을 잠가 확인한 완료 상태가 UPDATE 시점까지 유지되도록 함
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT new plannery.flora.dto.todo.TodoStateDto(t.id, t.isCompleted) " +
+      "FROM TodoEntity t WHERE t.id IN :ids AND t.member.id = :memberId")
+  List<TodoStateDto> findTodoStates(@Param("memberId") Long memberId,
+      @Param("ids") Collection<Long> ids);
 
-  List<TodoEntity> findByMemberIdAndTitleContainingOrMemberIdAndDescriptionContaining(
-      Long memberId1, String keyword1, Long memberId2, String keyword2);
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE TodoEntity t SET t.isCompleted = :newCompleted, t.updatedAt = :now " +
+      "WHERE t.id IN :ids AND t.member.id = :memberId AND t.isCompleted = :expectedCompleted")
+  int updateCompleted(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids,
+      @Param("expectedCompleted") boolean expectedCompleted,
+      @Param("newCompleted") boolean newCompleted, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,82 @@
+package plannery.flora.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검증된 토큰의 인증 정보 캐시 : 토큰 해시 -> Authentication, 토큰 만료 시각 또는 블랙리스트 추가 시 제거
+ */
+@Component
+public class AuthenticationCache {
+
+  private static final long MAX_SIZE = 50_000;
+
+  private final Cache<String, CachedAuthentication> cache = Caffeine.newBuilder()
+      .maximumSize(MAX_SIZE)
+      .expireAfter(new Expiry<String, CachedAuthentication>() {
+        @Override
+        public long expireAfterCreate(String tokenHash, CachedAuthentication value,
+            long currentTime) {
+          long remainMillis = value.expiration().getTime() - System.currentTimeMillis();
+          return TimeUnit.MILLISECONDS.toNanos(Math.max(remainMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, CachedAuthentication value,
+            long currentTime, long currentDuration) {
+          return expireAfterCreate(tokenHash, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, CachedAuthentication value,
+            long currentTime, long currentDuration) {
+          return currentDuration;
+        }
+      })
+      .build();
+
+  /**
+   * 캐시된 인증 정보 조회
+   *
+   * @param tokenHash 토큰 해시
+   * @return 인증 정보, 없거나 만료되었으면 null
+   */
+  public Authentication get(String tokenHash) {
+    CachedAuthentication cached = cache.getIfPresent(tokenHash);
+
+    return cached != null ? cached.authentication() : null;
+  }
+
+  /**
+   * 인증 정보 저장 : 토큰 만료 시각까지 유지
+   *
+   * @param tokenHash      토큰 해시
+   * @param authentication 인증 정보
+   * @param expiration     토큰 만료 시각
+   */
+  public void put(String tokenHash, Authentication authentication, Date expiration) {
+    if (expiration == null) {
+      return;
+    }
+
+    cache.put(tokenHash, new CachedAuthentication(authentication, expiration));
+  }
+
+  /**
+   * 인증 정보 제거 : 블랙리스트 추가 시 호출
+   *
+   * @param tokenHash 토큰 해시
+   */
+  public void evict(String tokenHash) {
+    cache.invalidate(tokenHash);
+  }
+
+  private record CachedAuthentication(Authentication authentication, Date expiration) {
+
+  }
+}
@@ -18,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import plannery.flora.exception.CustomException;
 import plannery.flora.exception.ErrorCode;
 import plannery.flora.service.BlacklistTokenService;
+import plannery.flora.util.HashGenerator;
 
 @Slf4j
 @Component
@@ -29,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
   private final JwtTokenProvider jwtTokenProvider;
   private final BlacklistTokenService blacklistTokenService;
+  private final AuthenticationCache authenticationCache;
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -37,16 +39,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     if (StringUtils.hasText(token)) {
       try {
-        if (jwtTokenProvider.validateToken(token)) {
-          if (!blacklistTokenService.isTokenBlacklist(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-          } else {
-            throw new CustomException(TOKEN_BLACKLISTED);
-          }
-        } else {
-          throw new CustomException(INVALID_TOKEN);
+        String tokenHash = HashGenerator.sha256(token);
+
+        if (blacklistTokenService.isTokenBlacklist(token, tokenHash)) {
+          throw new CustomException(TOKEN_BLACKLISTED);
+        }
+
+        // 같은 토큰의 반복 요청은 서명 검증 없이 캐시된 인증 정보 사용
+        Authentication authentication = authenticationCache.get(tokenHash);
+
+        if (authentication == null) {
+          VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token)
+              .orElseThrow(() -> new CustomException(INVALID_TOKEN));
+
+          authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+          authenticationCache.put(tokenHash, authentication, verifiedToken.getExpiration());
         }
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
       } catch (CustomException e) {
         setErrorResponse(response, e.getErrorCode());
         return;
@@ -1,32 +1,24 @@
 package plannery.flora.security;
 
-import static plannery.flora.exception.ErrorCode.INVALID_MEMBER_ID;
-import static plannery.flora.exception.ErrorCode.MEMBER_NOT_FOUND;
-
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import jakarta.annotation.PostConstruct;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Base64;
-import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import plannery.flora.dto.member.MemberTokenInfoDto;
-import plannery.flora.entity.MemberEntity;
 import plannery.flora.enums.UserRole;
-import plannery.flora.exception.CustomException;
-import plannery.flora.repository.MemberRepository;
 
 @Slf4j
 @Component
@@ -44,14 +36,18 @@ public class JwtTokenProvider {
   @Value("${jwt.secret.expiration}")
   private long tokenValidTime;
 
-  private final MemberRepository memberRepository;
-
   private Key secretKey;
 
+  // 스레드 안전한 불변 객체 : 요청마다 생성하지 않고 재사용
+  private JwtParser jwtParser;
+
   @PostConstruct
   public void init() {
     byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
     secretKey = new SecretKeySpec(keyBytes, "HmacSHA256");
+    jwtParser = Jwts.parserBuilder()
+        .setSigningKey(secretKey)
+        .build();
   }
 
   /**
@@ -79,81 +75,62 @@ public class JwtTokenProvider {
   }
 
   /**
-   * JWT 토큰 유효성 검사
+   * JWT 토큰 검증 : 서명 검증과 claims 파싱을 한 번에 수행
    *
    * @param token 검사할 JWT 토큰
-   * @return 토큰의 유효성 여부
+   * @return 검증된 토큰 정보, 유효하지 않은 토큰이면 empty
    */
-  public boolean validateToken(String token) {
+  public Optional<VerifiedToken> verifyToken(String token) {
     try {
-      Jwts.parserBuilder()
-          .setSigningKey(secretKey)
-          .build()
-          .parseClaimsJws(token);
-
-      return true;
+      Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+      return Optional.of(VerifiedToken.builder()
+          .token(token)
+          .memberId(claims.get(KEY_MEMBER_ID, Long.class))
+          .email(claims.get(KEY_EMAIL, String.class))
+          .role(UserRole.valueOf(claims.get(KEY_ROLE, String.class)))
+          .expiration(claims.getExpiration())
+          .build());
     } catch (ExpiredJwtException e) {
       log.error("만료된 JWT 토큰", e);
     } catch (Exception e) {
       log.error("JWT 토큰 유효성 검사 실패", e);
     }
 
-    return false;
+    return Optional.empty();
   }
 
   /**
-   * JWT 토큰에서 인증 정보 추출
+   * JWT 토큰 남은 유효 시간 : 블랙리스트 보관 기간으로 사용 (검증된 토큰의 만료일시로 계산, 다시 파싱하지 않음)
    *
-   * @param token JWT 토큰
-   * @return 인증 정보
+   * @param verifiedToken 검증된 토큰 정보
+   * @return 만료까지 남은 시간, 이미 만료된 토큰이면 empty
    */
-  public Authentication getAuthentication(String token) {
-    Claims claims = Jwts.parserBuilder()
-        .setSigningKey(secretKey)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
-
-    Long userId = claims.get(KEY_MEMBER_ID, Long.class);
-    String email = claims.get(KEY_EMAIL, String.class);
-    UserRole role = UserRole.valueOf(claims.get(KEY_ROLE, String.class));
-
-    UserDetails userDetails = getUserDetails(userId, email);
-
-    return new UsernamePasswordAuthenticationToken(userDetails, token,
-        userDetails.getAuthorities());
-  }
+  public Optional<Duration> getRemainingValidity(VerifiedToken verifiedToken) {
+    Duration remaining = Duration.ofMillis(
+        verifiedToken.getExpiration().getTime() - System.currentTimeMillis());
 
-  public MemberTokenInfoDto getUserInfoFromToken(String token) {
-    Claims claims = Jwts.parserBuilder()
-        .setSigningKey(secretKey)
-        .build()
-        .parseClaimsJws(token)
-        .getBody();
-
-    Long memberId = claims.get(KEY_MEMBER_ID, Long.class);
-    String email = claims.get(KEY_EMAIL, String.class);
-    UserRole role = UserRole.valueOf(claims.get(KEY_ROLE, String.class));
-
-    return new MemberTokenInfoDto(memberId, email, role);
+    return remaining.isNegative() || remaining.isZero() ? Optional.empty()
+        : Optional.of(remaining);
   }
 
-  private UserDetails getUserDetails(Long userId, String email) {
-    MemberEntity member = memberRepository.findByEmail(email)
-        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-
-    if (!member.getId().equals(userId)) {
-      throw new CustomException(INVALID_MEMBER_ID);
-    }
+  /**
+   * 검증된 토큰에서 인증 정보 생성 : claims로 MemberPrincipal 생성 (회원 조회 없음)
+   *
+   * @param verifiedToken 검증된 토큰 정보
+   * @return 인증 정보
+   */
+  public Authentication getAuthentication(VerifiedToken verifiedToken) {
+    MemberPrincipal principal = MemberPrincipal.builder()
+        .memberId(verifiedToken.getMemberId())
+        .email(verifiedToken.getEmail())
+        .role(verifiedToken.getRole())
+        .build();
 
-    return buildUserDetails(member.getEmail(), member.getPassword(), member.getRole());
-  }
+    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+        principal, verifiedToken.getToken(), principal.getAuthorities());
+    authentication.setDetails(verifiedToken);
 
-  private UserDetails buildUserDetails(String email, String password, UserRole role) {
-    return User.builder()
-        .username(email)
-        .password(password)
-        .authorities(Collections.singletonList(new SimpleGrantedAuthority(role.name())))
-        .build();
+    return authentication;
   }
 }
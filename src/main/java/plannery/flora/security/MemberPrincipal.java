@@ -0,0 +1,61 @@
+package plannery.flora.security;
+
+import java.util.Collection;
+import java.util.Collections;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import plannery.flora.enums.UserRole;
+
+/**
+ * 인증된 회원 정보 : 검증된 JWT 토큰의 claims(회원ID, 이메일, 권한)로 생성하여 요청마다 회원 조회를 하지 않음
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MemberPrincipal implements UserDetails {
+
+  private final Long memberId;
+
+  private final String email;
+
+  private final UserRole role;
+
+  @Override
+  public Collection<? extends GrantedAuthority> getAuthorities() {
+    return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
+  }
+
+  @Override
+  public String getPassword() {
+    return null;
+  }
+
+  @Override
+  public String getUsername() {
+    return email;
+  }
+
+  @Override
+  public boolean isAccountNonExpired() {
+    return true;
+  }
+
+  @Override
+  public boolean isAccountNonLocked() {
+    return true;
+  }
+
+  @Override
+  public boolean isCredentialsNonExpired() {
+    return true;
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+}
@@ -0,0 +1,26 @@
+package plannery.flora.security;
+
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import plannery.flora.enums.UserRole;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰 정보 : 필터에서 한 번만 생성하여 이후 단계에 전달
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class VerifiedToken {
+
+  private final String token;
+
+  private final Long memberId;
+
+  private final String email;
+
+  private final UserRole role;
+
+  private final Date expiration;
+}
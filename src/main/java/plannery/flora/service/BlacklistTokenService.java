@@ -2,22 +2,54 @@ package plannery.flora.service;
 
 import static plannery.flora.exception.ErrorCode.BLACKLIST_TOKEN_ADD_FAILED;
 
-import java.util.concurrent.TimeUnit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import plannery.flora.exception.CustomException;
+import plannery.flora.security.AuthenticationCache;
+import plannery.flora.security.JwtTokenProvider;
+import plannery.flora.security.VerifiedToken;
+import plannery.flora.util.HashGenerator;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BlacklistTokenService {
 
+  public static final String BLACKLIST_CHANNEL = "blacklist-token";
+
+  private static final String BLACKLIST_KEY_PREFIX = "blacklist:";
+
+  // 로컬 캐시 : 블랙리스트 여부가 확인된 토큰 해시 (만료 후에는 Redis 확인)
+  private static final long LOCAL_CACHE_MAX_SIZE = 100_000;
+  private static final Duration BLACKLISTED_TTL = Duration.ofMinutes(60);
+  // 블랙리스트가 아닌 것으로 확인된 결과의 로컬 유지 시간 : pub/sub 메세지 유실 시 로그아웃 반영 최대 지연
+  private static final Duration NOT_BLACKLISTED_TTL = Duration.ofSeconds(30);
+
   private final RedisTemplate<String, String> redisStringTemplate;
+  private final AuthenticationCache authenticationCache;
+  private final JwtTokenProvider jwtTokenProvider;
+
+  private final Cache<String, Boolean> blacklistedTokens = Caffeine.newBuilder()
+      .maximumSize(LOCAL_CACHE_MAX_SIZE)
+      .expireAfterWrite(BLACKLISTED_TTL)
+      .build();
+
+  private final Cache<String, Boolean> notBlacklistedTokens = Caffeine.newBuilder()
+      .maximumSize(LOCAL_CACHE_MAX_SIZE)
+      .expireAfterWrite(NOT_BLACKLISTED_TTL)
+      .build();
 
   /**
-   * 블랙리스트에 토큰 추가
+   * 블랙리스트에 토큰 추가 : 토큰 검증 후 블랙리스트에 추가
+   * <p>
+   * 이미 만료되었거나 유효하지 않은 토큰은 인증에 사용할 수 없으므로 저장하지 않음
    *
    * @param token 토큰 정보
    */
@@ -25,22 +57,93 @@ public class BlacklistTokenService {
     if (token.startsWith("Bearer ")) {
       token = token.substring(7);
     }
-    log.info("블랙리스트에 토큰 추가 : " + token);
+
+    Optional<VerifiedToken> verifiedToken = jwtTokenProvider.verifyToken(token);
+    if (verifiedToken.isEmpty()) {
+      log.info("만료된 토큰, 블랙리스트 추가 생략 : " + HashGenerator.sha256(token));
+      return;
+    }
+
+    addToBlacklist(verifiedToken.get());
+  }
+
+  /**
+   * 블랙리스트에 토큰 추가 : 토큰 해시를 토큰의 남은 유효 시간 동안 Redis에 저장 후 다른 서버의 로컬 캐시 갱신을 위해 발행
+   *
+   * @param verifiedToken 검증된 토큰 정보
+   */
+  public void addToBlacklist(VerifiedToken verifiedToken) {
+    String tokenHash = HashGenerator.sha256(verifiedToken.getToken());
+
+    Optional<Duration> remainingValidity = jwtTokenProvider.getRemainingValidity(verifiedToken);
+    if (remainingValidity.isEmpty()) {
+      log.info("만료된 토큰, 블랙리스트 추가 생략 : " + tokenHash);
+      return;
+    }
+
+    log.info("블랙리스트에 토큰 추가 : " + tokenHash);
 
     try {
-      redisStringTemplate.opsForValue().set(token, "logout", 60, TimeUnit.MINUTES);
+      redisStringTemplate.opsForValue()
+          .set(BLACKLIST_KEY_PREFIX + tokenHash, "logout", remainingValidity.get());
+      redisStringTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenHash);
     } catch (Exception e) {
       throw new CustomException(BLACKLIST_TOKEN_ADD_FAILED);
     }
+
+    onBlacklisted(tokenHash);
   }
 
   /**
-   * 블랙리스트에 토큰이 존재하는지 여부 확인
+   * 블랙리스트에 토큰이 존재하는지 여부 확인 : 로컬 캐시 -> Redis 순서로 확인
    *
    * @param token 토큰 정보
    * @return 토큰이 블랙리스트에 존재하면 true, 존재하지 않으면 false
    */
   public boolean isTokenBlacklist(String token) {
-    return redisStringTemplate.opsForValue().get(token) != null;
+    return isTokenBlacklist(token, HashGenerator.sha256(token));
+  }
+
+  /**
+   * 블랙리스트에 토큰이 존재하는지 여부 확인 : 로컬 캐시 -> Redis 순서로 확인
+   * <p>
+   * Redis는 토큰 해시 키와 함께 이전 형식 키(접두사 없는 원본 토큰)도 확인
+   *
+   * @param token     토큰 정보
+   * @param tokenHash 토큰 해시
+   * @return 토큰이 블랙리스트에 존재하면 true, 존재하지 않으면 false
+   */
+  public boolean isTokenBlacklist(String token, String tokenHash) {
+    if (blacklistedTokens.getIfPresent(tokenHash) != null) {
+      return true;
+    }
+
+    if (notBlacklistedTokens.getIfPresent(tokenHash) != null) {
+      return false;
+    }
+
+    // 이전 형식 키 : 원본 토큰을 키로 60분 저장했으므로 배포 후 60분이 지나면 모두 만료, 이후 token 키 확인은 삭제
+    Long existingKeys = redisStringTemplate.countExistingKeys(
+        List.of(BLACKLIST_KEY_PREFIX + tokenHash, token));
+    boolean isBlacklisted = existingKeys != null && existingKeys > 0;
+
+    if (isBlacklisted) {
+      blacklistedTokens.put(tokenHash, true);
+    } else {
+      notBlacklistedTokens.put(tokenHash, true);
+    }
+
+    return isBlacklisted;
+  }
+
+  /**
+   * 블랙리스트 추가 반영 : 로컬 캐시 갱신, 캐시된 인증 정보 제거 (블랙리스트 채널 구독 시 호출)
+   *
+   * @param tokenHash 토큰 해시
+   */
+  public void onBlacklisted(String tokenHash) {
+    notBlacklistedTokens.invalidate(tokenHash);
+    blacklistedTokens.put(tokenHash, true);
+    authenticationCache.evict(tokenHash);
   }
 }
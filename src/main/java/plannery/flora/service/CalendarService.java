@@ -0,0 +1,110 @@
+package plannery.flora.service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import plannery.flora.component.EventCache;
+import plannery.flora.component.SecurityUtils;
+import plannery.flora.dto.calendar.CalendarMonthDto;
+import plannery.flora.dto.calendar.CalendarTodoDto;
+import plannery.flora.dto.calendar.TodoDailyCountDto;
+import plannery.flora.dto.event.EventListDto;
+import plannery.flora.entity.TodoRepeatEntity;
+import plannery.flora.repository.DiaryRepository;
+import plannery.flora.repository.TodoRepeatRepository;
+import plannery.flora.repository.TodoRepository;
+
+@Service
+@RequiredArgsConstructor
+public class CalendarService {
+
+  private final SecurityUtils securityUtils;
+  private final EventCache eventCache;
+  private final TodoRepository todoRepository;
+  private final TodoRepeatRepository todoRepeatRepository;
+  private final DiaryRepository diaryRepository;
+
+  /**
+   * 월별 캘린더 조회 : 이벤트, 날짜별 투두 수 / 완료율, 일기 작성 날짜
+   *
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID
+   * @param yearMonth   연월 e.g. "2024-09"
+   * @return CalendarMonthDto : 이벤트 목록, 날짜별 투두 수 / 완료 수 / 완료율, 일기 작성 날짜
+   */
+  @Transactional(readOnly = true)
+  public CalendarMonthDto getCalendarMonth(UserDetails userDetails, Long memberId,
+      String yearMonth) {
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    YearMonth parsedYearMonth = YearMonth.parse(yearMonth, DateTimeFormatter.ofPattern("yyyy-MM"));
+    LocalDate startDate = parsedYearMonth.atDay(1);
+    LocalDate endDate = parsedYearMonth.atEndOfMonth();
+
+    List<EventListDto> events = eventCache.findEventsWithinPeriod(memberId,
+            startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX)).stream()
+        .map(event -> EventListDto.builder()
+            .eventId(event.eventId())
+            .title(event.title())
+            .startDateTime(event.startDateTime())
+            .endDateTime(event.endDateTime())
+            .indexColor(event.indexColor())
+            .isAllDay(event.isAllDay())
+            .build())
+        .toList();
+
+    return CalendarMonthDto.builder()
+        .events(events)
+        .todos(getDailyTodos(memberId, startDate, endDate))
+        .diaryDates(diaryRepository.findDatesWithinPeriod(memberId, startDate, endDate))
+        .build();
+  }
+
+  /**
+   * 날짜별 투두 수 : 저장된 투두는 날짜별 집계 쿼리, 저장되지 않은 루틴 투두는 기간 내 루틴으로 계산 (미완료)
+   */
+  private List<CalendarTodoDto> getDailyTodos(Long memberId, LocalDate startDate,
+      LocalDate endDate) {
+    Map<LocalDate, TodoDailyCountDto> dailyCounts = todoRepository.countDailyTodos(memberId,
+            startDate, endDate).stream()
+        .collect(Collectors.toMap(TodoDailyCountDto::getDate, Function.identity()));
+    List<TodoRepeatEntity> routines = todoRepeatRepository.findAllWithinPeriod(memberId,
+        startDate, endDate);
+
+    List<CalendarTodoDto> dailyTodos = new ArrayList<>();
+
+    for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+      LocalDate day = date;
+      TodoDailyCountDto dailyCount = dailyCounts.get(day);
+
+      long savedCount = dailyCount == null ? 0 : dailyCount.getTotalCount();
+      long completedCount = dailyCount == null ? 0 : dailyCount.getCompletedCount();
+      long savedRoutineCount = dailyCount == null ? 0 : dailyCount.getRoutineCount();
+      long routineCount = routines.stream().filter(routine -> routine.occursOn(day)).count();
+
+      long totalCount = savedCount + Math.max(0, routineCount - savedRoutineCount);
+      if (totalCount == 0) {
+        continue;
+      }
+
+      dailyTodos.add(CalendarTodoDto.builder()
+          .date(day)
+          .totalCount(totalCount)
+          .completedCount(completedCount)
+          .completionRate((double) completedCount / totalCount)
+          .build());
+    }
+
+    return dailyTodos;
+  }
+}
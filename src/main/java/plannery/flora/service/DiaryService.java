@@ -70,7 +70,7 @@ public class DiaryService {
    * @return DiaryViewDto : 제목, 내용, 날짜, 이미지 URL
    */
   public DiaryViewDto getDiary(UserDetails userDetails, Long memberId, Long diaryId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     DiaryEntity diary = diaryRepository.findById(diaryId).orElse(null);
 
@@ -99,7 +99,7 @@ public class DiaryService {
    * @return List<DiaryListDto> : 일기ID, 제목, 날짜
    */
   public List<DiaryListDto> getDiaries(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     List<DiaryEntity> diaries = diaryRepository.findAllByMemberId(memberId);
 
@@ -123,7 +123,7 @@ public class DiaryService {
    */
   public void updateDiary(UserDetails userDetails, Long memberId, Long diaryId,
       DiaryCreateDto diaryCreateDto, MultipartFile file) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     DiaryEntity diary = diaryRepository.findById(diaryId)
         .orElseThrow(() -> new CustomException(DIARY_NOT_FOUND));
@@ -150,7 +150,7 @@ public class DiaryService {
    * @param diaryId     일기ID
    */
   public void deleteDiary(UserDetails userDetails, Long memberId, Long diaryId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     DiaryEntity diary = diaryRepository.findById(diaryId)
         .orElseThrow(() -> new CustomException(DIARY_NOT_FOUND));
@@ -2,19 +2,25 @@ package plannery.flora.service;
 
 import static plannery.flora.exception.ErrorCode.EVENT_NOT_FOUND;
 import static plannery.flora.exception.ErrorCode.INVALID_DATETIME;
+import static plannery.flora.exception.ErrorCode.INVALID_EVENT_REPEAT;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.Period;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plannery.flora.component.EventCache;
+import plannery.flora.component.EventIntervalTree.Span;
 import plannery.flora.component.SecurityUtils;
 import plannery.flora.dto.event.DDayDto;
 import plannery.flora.dto.event.EventCreateDto;
@@ -22,6 +28,7 @@ import plannery.flora.dto.event.EventListByDateDto;
 import plannery.flora.dto.event.EventListDto;
 import plannery.flora.entity.EventEntity;
 import plannery.flora.entity.MemberEntity;
+import plannery.flora.enums.RepeatFrequency;
 import plannery.flora.exception.CustomException;
 import plannery.flora.repository.EventRepository;
 
@@ -30,15 +37,18 @@ import plannery.flora.repository.EventRepository;
 @RequiredArgsConstructor
 public class EventService {
 
+  private static final int MAX_DDAY_LIMIT = 100;
+
   private final SecurityUtils securityUtils;
   private final EventRepository eventRepository;
+  private final EventCache eventCache;
 
   /**
-   * 이벤트 생성 : 종료일시는 시작일시보다 앞설 수 없음
+   * 이벤트 생성 : 종료일시는 시작일시보다 앞설 수 없음, 반복 이벤트는 규칙만 저장 (반복별 이벤트는 조회 시 계산)
    *
    * @param userDetails    사용자 정보
    * @param memberId       회원ID
-   * @param eventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부
+   * @param eventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부, 반복 설정
    */
   public void createEvent(UserDetails userDetails, Long memberId, EventCreateDto eventCreateDto) {
     MemberEntity member = securityUtils.validateUserDetails(userDetails, memberId);
@@ -57,8 +67,10 @@ public class EventService {
         .isAllDay(eventCreateDto.isAllDay())
         .member((member))
         .build();
+    updateRepeat(event, eventCreateDto);
 
     eventRepository.save(event);
+    eventCache.onSaved(event);
   }
 
   /**
@@ -67,10 +79,10 @@ public class EventService {
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
    * @param eventId     이벤트ID
-   * @return EventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부
+   * @return EventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부, 반복 설정
    */
   public EventCreateDto getEvent(UserDetails userDetails, Long memberId, Long eventId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     EventEntity event = eventRepository.findById(eventId)
         .orElseThrow(() -> new CustomException(EVENT_NOT_FOUND));
@@ -83,11 +95,18 @@ public class EventService {
         .indexColor(event.getIndexColor())
         .isDDay(event.isDDay())
         .isAllDay(event.isAllDay())
+        .repeatFrequency(event.getRepeatFrequency())
+        .repeatInterval(event.getRepeatInterval())
+        .repeatDays(Set.copyOf(event.getRepeatDays()))
+        .repeatUntil(event.getRepeatUntil())
+        .repeatCount(event.getRepeatCount())
+        .excludedDates(Set.copyOf(event.getExcludedDates()))
         .build();
   }
 
   /**
-   * 오늘의 이벤트 전체 조회
+   * 오늘의 이벤트 전체 조회 : 해당 날짜와 기간이 겹치는 이벤트 (시작일시 <= 하루의 끝, 종료일시 >= 하루의 시작), 반복 이벤트는 해당
+   * 날짜의 반복
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
@@ -96,27 +115,24 @@ public class EventService {
    */
   public List<EventListByDateDto> getEventsByDate(UserDetails userDetails, Long memberId,
       LocalDate date) {
-    securityUtils.validateUserDetails(userDetails, memberId);
-
-    LocalDateTime startOfDay = date.atStartOfDay();
-    LocalDateTime endOfDay = date.atTime(23, 59, 59);
+    securityUtils.validateMemberId(userDetails, memberId);
 
-    List<EventEntity> eventList = eventRepository.findAllByMemberIdAndStartDateTimeLessThanEqualAndEndDateTimeGreaterThanEqualOrStartDateTimeBetweenOrEndDateTimeBetween(
-        memberId, endOfDay, startOfDay, startOfDay, endOfDay, startOfDay, endOfDay);
+    List<Span> eventList = eventCache.findEventsWithinPeriod(memberId, date.atStartOfDay(),
+        date.atTime(LocalTime.MAX));
 
     return eventList.stream()
         .map(event -> EventListByDateDto.builder()
-            .eventId(event.getId())
-            .title(event.getTitle())
-            .startTime(event.getStartDateTime().toLocalTime())
-            .endTime(event.getEndDateTime().toLocalTime())
+            .eventId(event.eventId())
+            .title(event.title())
+            .startTime(event.startDateTime().toLocalTime())
+            .endTime(event.endDateTime().toLocalTime())
             .isAllDay(event.isAllDay())
-            .indexColor(event.getIndexColor()).build())
+            .indexColor(event.indexColor()).build())
         .toList();
   }
 
   /**
-   * 월별 이벤트 조회
+   * 월별 이벤트 조회 : 반복 이벤트는 조회 기간 내 반복마다 포함
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
@@ -125,7 +141,7 @@ public class EventService {
    */
   public List<EventListDto> getEventsByMonth(UserDetails userDetails, Long memberId,
       String yearMonth) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     YearMonth parsedYearMonth = YearMonth.parse(yearMonth, DateTimeFormatter.ofPattern("yyyy-MM"));
     LocalDate startDate = parsedYearMonth.atDay(1);
@@ -134,16 +150,16 @@ public class EventService {
     LocalDateTime startDateTime = startDate.atStartOfDay();
     LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
 
-    List<EventEntity> eventList = eventRepository.findEventsForMemberWithinMonth(memberId,
-        startDateTime, endDateTime);
+    List<Span> eventList = eventCache.findEventsWithinPeriod(memberId, startDateTime,
+        endDateTime);
 
     return eventList.stream()
         .map(event -> EventListDto.builder()
-            .eventId(event.getId())
-            .title(event.getTitle())
-            .startDateTime(event.getStartDateTime())
-            .endDateTime(event.getEndDateTime())
-            .indexColor(event.getIndexColor())
+            .eventId(event.eventId())
+            .title(event.title())
+            .startDateTime(event.startDateTime())
+            .endDateTime(event.endDateTime())
+            .indexColor(event.indexColor())
             .isAllDay(event.isAllDay())
             .build())
         .toList();
@@ -157,7 +173,7 @@ public class EventService {
    * @return List<EventListDto> : 이벤트ID, 제목, 시작일시, 종료일시, 인덱스, 하루종일 설정 여부
    */
   public List<EventListDto> getAllEvent(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     List<EventEntity> eventList = eventRepository.findAllByMemberId(memberId);
 
@@ -175,28 +191,22 @@ public class EventService {
   }
 
   /**
-   * 디데이 목록 조회
+   * 디데이 목록 조회 : 남은 날 계산, 정렬, 개수 제한은 DB에서 처리
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
-   * @return List<DDayDto> : 이벤트ID, 제목, 시작날짜, 남은 날
+   * @param limit       최대 조회 수 (없으면 전체, 최대 MAX_DDAY_LIMIT)
+   * @return List<DDayDto> : 이벤트ID, 제목, 시작날짜, 남은 날 (남은 날 오름차순)
    */
-  public List<DDayDto> getDDayList(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
-
-    List<EventEntity> dDayList = eventRepository.findDDayEventsByMemberId(memberId,
-        LocalDate.now().atStartOfDay());
-
-    return dDayList.stream()
-        .map(dDay -> DDayDto.builder()
-            .eventId(dDay.getId())
-            .title(dDay.getTitle())
-            .startDate(dDay.getStartDateTime().toLocalDate())
-            .remain(
-                Period.between(LocalDate.now(), dDay.getStartDateTime().toLocalDate()).getDays())
-            .build())
-        .sorted(Comparator.comparingInt(DDayDto::getRemain))
-        .toList();
+  public List<DDayDto> getDDayList(UserDetails userDetails, Long memberId, Integer limit) {
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    LocalDate today = LocalDate.now();
+    Pageable pageable = limit == null
+        ? Pageable.unpaged()
+        : PageRequest.of(0, Math.max(1, Math.min(limit, MAX_DDAY_LIMIT)));
+
+    return eventRepository.findDDaysByMemberId(memberId, today, today.atStartOfDay(), pageable);
   }
 
   /**
@@ -205,11 +215,11 @@ public class EventService {
    * @param userDetails    사용자 정보
    * @param memberId       회원ID
    * @param eventId        이벤트 ID
-   * @param eventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부
+   * @param eventCreateDto : 제목, 설명, 시작일시, 종료일시, 인덱스, 디데이 설정 여부, 하루종일 설정 여부, 반복 설정
    */
   public void updateEvent(UserDetails userDetails, Long memberId, Long eventId,
       EventCreateDto eventCreateDto) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     if (eventCreateDto.getStartDateTime().isAfter(eventCreateDto.getEndDateTime())) {
       throw new CustomException(INVALID_DATETIME);
@@ -221,6 +231,8 @@ public class EventService {
     event.updateEvent(eventCreateDto.getTitle(), eventCreateDto.getDescription(),
         eventCreateDto.getStartDateTime(), eventCreateDto.getEndDateTime(),
         eventCreateDto.getIndexColor(), eventCreateDto.isDDay(), eventCreateDto.isAllDay());
+    updateRepeat(event, eventCreateDto);
+    eventCache.onSaved(event);
   }
 
   /**
@@ -231,11 +243,43 @@ public class EventService {
    * @param eventId     이벤트ID
    */
   public void deleteEvent(UserDetails userDetails, Long memberId, Long eventId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     EventEntity event = eventRepository.findById(eventId)
         .orElseThrow(() -> new CustomException(EVENT_NOT_FOUND));
 
     eventRepository.delete(event);
+    eventCache.onDeleted(event.getMember().getId(), eventId);
+  }
+
+  /**
+   * 반복 설정 : 반복 요일은 WEEKLY만 가능, 반복 종료 날짜와 반복 횟수는 함께 설정할 수 없음
+   *
+   * @param event          이벤트
+   * @param eventCreateDto : 반복 주기, 반복 간격, 반복 요일, 반복 종료 날짜, 반복 횟수, 제외 날짜
+   */
+  private void updateRepeat(EventEntity event, EventCreateDto eventCreateDto) {
+    RepeatFrequency repeatFrequency = eventCreateDto.getRepeatFrequency();
+
+    if (repeatFrequency == null) {
+      event.updateRepeat(null, null, Set.of(), null, null, Set.of());
+      return;
+    }
+
+    Set<DayOfWeek> repeatDays = eventCreateDto.getRepeatDays() == null
+        ? Set.of() : eventCreateDto.getRepeatDays();
+    LocalDate repeatUntil = eventCreateDto.getRepeatUntil();
+
+    if ((!repeatDays.isEmpty() && repeatFrequency != RepeatFrequency.WEEKLY)
+        || (repeatUntil != null && eventCreateDto.getRepeatCount() != null)
+        || (repeatUntil != null
+        && repeatUntil.isBefore(eventCreateDto.getStartDateTime().toLocalDate()))) {
+      throw new CustomException(INVALID_EVENT_REPEAT);
+    }
+
+    event.updateRepeat(repeatFrequency,
+        eventCreateDto.getRepeatInterval() == null ? 1 : eventCreateDto.getRepeatInterval(),
+        repeatDays, repeatUntil, eventCreateDto.getRepeatCount(),
+        eventCreateDto.getExcludedDates() == null ? Set.of() : eventCreateDto.getExcludedDates());
   }
 }
@@ -95,7 +95,7 @@ public class FloraService {
    * @return FloraDto : 카운트, 플로라 타입
    */
   public FloraDto getFlora(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     FloraEntity flora = floraRepository.findByMemberId(memberId)
         .orElseThrow(() -> new CustomException(FLORA_NOT_FOUND));
@@ -94,7 +94,7 @@ public class ImageService {
    * @return 이미지 URL
    */
   public String getImage(UserDetails userDetails, Long memberId, ImageType imageType) {
-    MemberEntity member = securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     return imageRepository.findByMemberIdAndImageType(memberId, imageType)
         .map(ImageEntity::getImageUrl)
@@ -108,7 +108,7 @@ public class ImageService {
    * @param imageType 이미지 타입 : IMAGE_PROFILE, IMAGE_GALLERY
    */
   public void deleteImage(UserDetails userDetails, Long memberId, ImageType imageType) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     ImageEntity imageEntity = imageRepository.findByMemberIdAndImageType(memberId, imageType)
         .orElseThrow(() -> new CustomException(IMAGE_NOT_FOUND));
@@ -14,7 +14,6 @@ import java.util.Timer;
 import java.util.TimerTask;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -158,16 +157,14 @@ public class MemberService {
   /**
    * 비밀번호 변경
    *
-   * @param token             JWT 토큰
+   * @param userDetails       사용자 정보
    * @param memberId          회원ID
    * @param passwordChangeDto : 현재 비밀번호, 새 비밀번호
    */
   @Transactional
-  public void changePassword(String token, Long memberId,
+  public void changePassword(UserDetails userDetails, Long memberId,
       PasswordChangeDto passwordChangeDto) {
-    Authentication authentication = jwtTokenProvider.getAuthentication(token);
-
-    MemberEntity member = memberRepository.findByEmail(authentication.getName())
+    MemberEntity member = memberRepository.findByEmail(userDetails.getUsername())
         .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
 
     if (!member.getId().equals(memberId)) {
@@ -217,13 +214,16 @@ public class MemberService {
   }
 
   /**
-   * 회원 탈퇴 : 관련 DB 전체 삭제
+   * 회원 탈퇴 : 관련 DB 전체 삭제, 토큰 블랙리스트 등록 및 SSE 연결 해지
+   * <p>
+   * 인증 정보는 회원 조회 없이 토큰 claims로 생성하므로 토큰을 블랙리스트에 등록하지 않으면 만료 전까지 삭제된 회원으로 인증됨
    *
+   * @param token       토큰 정보
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
    */
   @Transactional
-  public void deleteMember(UserDetails userDetails, Long memberId) {
+  public void deleteMember(String token, UserDetails userDetails, Long memberId) {
     MemberEntity member = memberRepository.findByEmail(userDetails.getUsername())
         .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
 
@@ -234,5 +234,8 @@ public class MemberService {
     s3ImageUpload.deleteAllImages(memberId);
 
     memberRepository.delete(member);
+
+    blacklistTokenService.addToBlacklist(token);
+    notificationService.removeEmitter(memberId);
   }
 }
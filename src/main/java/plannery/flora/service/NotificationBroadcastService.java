@@ -0,0 +1,128 @@
+package plannery.flora.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import plannery.flora.config.AsyncConfig;
+import plannery.flora.dto.notification.NotificationCreatedEvent;
+import plannery.flora.enums.UserRole;
+import plannery.flora.repository.MemberRepository;
+import plannery.flora.repository.NotificationListRepository;
+
+/**
+ * 전체 알림 발송 : 알림 저장 트랜잭션 커밋 후 SSE 전송과 회원별 알림 목록 저장을 각각 비동기로 처리, SSE 전송은 Redis
+ * 채널로 발행하여 각 서버가 자신에게 연결된 회원에게만 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationBroadcastService {
+
+  public static final String NOTIFICATION_CHANNEL = "notification-broadcast";
+
+  private static final int MEMBER_BATCH_SIZE = 1000;
+
+  private final MemberRepository memberRepository;
+  private final NotificationListRepository notificationListRepository;
+  private final NotificationService notificationService;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final RedisTemplate<String, String> redisStringTemplate;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * SSE 알림 발행 : Redis 채널로 발행, 발행 실패 시 현재 서버에 연결된 회원에게만 전송
+   *
+   * @param event 알림 생성 이벤트
+   */
+  @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void publish(NotificationCreatedEvent event) {
+    try {
+      redisStringTemplate.convertAndSend(NOTIFICATION_CHANNEL,
+          objectMapper.writeValueAsString(event));
+    } catch (Exception e) {
+      log.error("알림 발행 실패, 현재 서버에만 전송 : notificationId={}", event.getNotificationId(), e);
+      deliver(event);
+    }
+  }
+
+  /**
+   * 현재 서버에 연결된 회원에게 SSE 알림 전송 (알림 채널 구독 시 호출)
+   *
+   * @param payload 알림 생성 이벤트 (JSON)
+   */
+  public void onPublished(String payload) {
+    try {
+      deliver(objectMapper.readValue(payload, NotificationCreatedEvent.class));
+    } catch (JsonProcessingException e) {
+      log.error("알림 메세지 변환 실패 : {}", payload, e);
+    }
+  }
+
+  private void deliver(NotificationCreatedEvent event) {
+    int delivered = notificationService.sendToConnectedMembers(event.getNotificationId(),
+        event.getMessage(), event.getEventId());
+
+    meterRegistry.counter("notification.broadcast.delivered").increment(delivered);
+    log.info("알림 전송 완료 : notificationId={}, 전송={}", event.getNotificationId(), delivered);
+  }
+
+  /**
+   * 회원별 알림 목록 저장 : 회원ID 순으로 MEMBER_BATCH_SIZE씩 나누어 INSERT ... SELECT (배치마다 트랜잭션 분리),
+   * 전체 알림(fan-out-on-read)은 저장하지 않음
+   *
+   * @param event 알림 생성 이벤트
+   */
+  @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void persist(NotificationCreatedEvent event) {
+    if (event.isGlobal()) {
+      return;
+    }
+
+    long startTime = System.nanoTime();
+    LocalDateTime now = LocalDateTime.now();
+    long lastMemberId = 0L;
+    int saved = 0;
+
+    while (true) {
+      List<Long> memberIds = memberRepository.findIdsByRoleAfter(UserRole.ROLE_MEMBER,
+          lastMemberId, PageRequest.of(0, MEMBER_BATCH_SIZE));
+
+      if (memberIds.isEmpty()) {
+        break;
+      }
+
+      Long fromMemberId = memberIds.get(0);
+      Long toMemberId = memberIds.get(memberIds.size() - 1);
+
+      Integer inserted = transactionTemplate.execute(
+          status -> notificationListRepository.insertAllForMembers(event.getNotificationId(),
+              UserRole.ROLE_MEMBER.name(), fromMemberId, toMemberId, now));
+
+      saved += inserted == null ? 0 : inserted;
+      lastMemberId = toMemberId;
+
+      meterRegistry.counter("notification.broadcast.saved").increment(
+          inserted == null ? 0 : inserted);
+      log.info("알림 목록 저장 진행 : notificationId={}, 저장={}", event.getNotificationId(), saved);
+    }
+
+    meterRegistry.timer("notification.broadcast.persist")
+        .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    log.info("알림 목록 저장 완료 : notificationId={}, 저장={}", event.getNotificationId(), saved);
+  }
+}
@@ -0,0 +1,42 @@
+package plannery.flora.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import plannery.flora.config.AsyncConfig;
+import plannery.flora.repository.MemberRepository;
+import plannery.flora.repository.NotificationListRepository;
+
+/**
+ * 알림 읽음 처리 : 알림 목록 조회 응답이 기다리지 않도록 별도 빈에서 비동기로 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationReadService {
+
+  private final NotificationListRepository notificationListRepository;
+  private final MemberRepository memberRepository;
+
+  /**
+   * 조회된 알림 읽음 처리 : 회원별 알림은 조회된 알림ID 범위만 UPDATE 한 번, 전체 알림은 마지막 읽은 알림ID 갱신
+   *
+   * @param memberId                 회원ID
+   * @param fromNotificationId       조회된 회원별 알림ID 범위 시작
+   * @param toNotificationId         조회된 회원별 알림ID 범위 끝 (조회된 회원별 알림이 없으면 null)
+   * @param lastGlobalNotificationId 조회된 마지막 전체 알림ID (없으면 null)
+   */
+  @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+  @Transactional
+  public void markAsRead(Long memberId, Long fromNotificationId, Long toNotificationId,
+      Long lastGlobalNotificationId) {
+    if (toNotificationId != null) {
+      notificationListRepository.markAsReadBetween(memberId, fromNotificationId,
+          toNotificationId);
+    }
+
+    if (lastGlobalNotificationId != null) {
+      memberRepository.updateLastReadNotificationId(memberId, lastGlobalNotificationId);
+    }
+  }
+}
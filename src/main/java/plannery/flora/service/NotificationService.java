@@ -1,92 +1,111 @@
 package plannery.flora.service;
 
-import static plannery.flora.exception.ErrorCode.MEMBER_NOT_FOUND;
-import static plannery.flora.exception.ErrorCode.NO_AUTHORITY;
-
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import plannery.flora.component.SecurityUtils;
+import plannery.flora.component.SseConnection;
+import plannery.flora.component.SseEmitterRegistry;
 import plannery.flora.dto.notification.NotificationCreateDto;
+import plannery.flora.dto.notification.NotificationCreatedEvent;
 import plannery.flora.dto.notification.NotificationListDto;
-import plannery.flora.entity.MemberEntity;
+import plannery.flora.dto.notification.NotificationPageDto;
 import plannery.flora.entity.NotificationEntity;
 import plannery.flora.entity.NotificationListEntity;
-import plannery.flora.enums.UserRole;
-import plannery.flora.exception.CustomException;
 import plannery.flora.repository.MemberRepository;
 import plannery.flora.repository.NotificationListRepository;
 import plannery.flora.repository.NotificationRepository;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+  // 재연결 시 재전송할 최대 알림 수 : 연결별 전송 대기열 크기 이하
+  private static final int REPLAY_LIMIT = 20;
+  private static final int MAX_PAGE_SIZE = 100;
+
   private final MemberRepository memberRepository;
   private final NotificationRepository notificationRepository;
   private final NotificationListRepository notificationListRepository;
   private final SecurityUtils securityUtils;
-
-  private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+  private final ApplicationEventPublisher eventPublisher;
+  private final SseEmitterRegistry sseEmitterRegistry;
+  private final NotificationReadService notificationReadService;
 
   @Value("${jwt.secret.expiration}")
   private long sseValidTime;
 
+  // true : 전체 알림을 한 번만 저장 (fan-out-on-read), false : 회원별 NotificationListEntity 저장 (fan-out-on-write)
+  @Value("${notification.fan-out-on-read:true}")
+  private boolean isFanOutOnRead;
+
   /**
-   * SSE 구독
+   * SSE 구독 : 마지막 이벤트ID(알림ID) 이후의 알림을 최대 REPLAY_LIMIT건 재전송
    *
-   * @param email       회원 이메일
+   * @param userDetails 사용자 정보
    * @param lastEventId 마지막 이벤트ID
    * @return SseEmitter 객체
    */
-  public SseEmitter subscribe(String email, String lastEventId) {
-    MemberEntity member = memberRepository.findByEmail(email)
-        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
+  public SseEmitter subscribe(UserDetails userDetails, String lastEventId) {
+    Long memberId = securityUtils.getMemberId(userDetails);
+
+    SseConnection connection = sseEmitterRegistry.register(memberId, sseValidTime);
 
-    SseEmitter emitter = new SseEmitter(sseValidTime);
-    emitters.computeIfAbsent(member.getId(), k -> new ArrayList<>()).add(emitter);
+    sseEmitterRegistry.send(connection, SseEmitter.event().data("Connected to SSE"));
 
-    emitter.onCompletion(() -> {
-      List<SseEmitter> emitterList = emitters.get(member.getId());
-      if (emitterList != null) {
-        emitterList.remove(emitter);
-        if (emitterList.isEmpty()) {
-          emitters.remove(member.getId());
-        }
-      }
-    });
+    if (lastEventId != null && !lastEventId.isEmpty()) {
+      findNotificationsAfter(memberId, lastEventId).forEach(
+          notification -> sseEmitterRegistry.send(connection,
+              toSseEvent(notification.getId(), notification.getMessage(),
+                  notification.getEventId())));
+    }
 
-    emitter.onTimeout(emitter::complete);
+    return connection.getEmitter();
+  }
 
+  /**
+   * 재전송 대상 알림 조회 : 전체 알림 + 회원별 알림 중 알림ID 순으로 REPLAY_LIMIT건
+   */
+  private List<NotificationEntity> findNotificationsAfter(Long memberId, String lastEventId) {
+    long lastId;
     try {
-      emitter.send("Connected to SSE");
-    } catch (IOException e) {
-      emitter.completeWithError(e);
+      lastId = Long.parseLong(lastEventId);
+    } catch (NumberFormatException e) {
+      log.info("재전송 불가능한 이벤트ID : {}", lastEventId);
+      return List.of();
     }
 
-    if (lastEventId != null && !lastEventId.isEmpty()) {
-      List<NotificationEntity> newNotifications = notificationRepository.findAllByEventIdAfter(
-          lastEventId);
-      for (NotificationEntity notification : newNotifications) {
-        try {
-          emitter.send(notification.getMessage() + ";" + notification.getEventId());
-        } catch (IOException e) {
-          emitter.completeWithError(e);
-        }
-      }
-    }
+    PageRequest limit = PageRequest.of(0, REPLAY_LIMIT);
+    List<NotificationEntity> notifications = new ArrayList<>(
+        notificationRepository.findGlobalAfter(lastId, limit));
+    notifications.addAll(
+        notificationRepository.findMemberNotificationsAfter(memberId, lastId, limit));
+
+    return notifications.stream()
+        .sorted(Comparator.comparing(NotificationEntity::getId))
+        .limit(REPLAY_LIMIT)
+        .toList();
+  }
 
-    return emitter;
+  private SseEmitter.SseEventBuilder toSseEvent(Long notificationId, String message,
+      String eventId) {
+    return SseEmitter.event()
+        .id(String.valueOf(notificationId))
+        .data(message + ";" + eventId);
   }
 
   /**
@@ -95,62 +114,52 @@ public class NotificationService {
    * @param memberId 회원ID
    */
   public void removeEmitter(Long memberId) {
-    List<SseEmitter> emitterList = emitters.get(memberId);
+    sseEmitterRegistry.removeAll(memberId);
+  }
 
-    if (emitterList != null) {
-      emitterList.forEach(SseEmitter::complete);
-      emitters.remove(memberId);
-    }
+  /**
+   * 현재 서버에 접속 중인 회원 전체에게 SSE 전송
+   *
+   * @param notificationId 알림ID (SSE 이벤트ID)
+   * @param message        메세지
+   * @param eventId        이벤트ID
+   * @return 전송한 연결 수
+   */
+  public int sendToConnectedMembers(Long notificationId, String message, String eventId) {
+    return sseEmitterRegistry.sendToAll(() -> toSseEvent(notificationId, message, eventId));
   }
 
   /**
-   * 알림 생성 : NotificationEntity 생성 -> 회원별 NotificationListEntity 생성 및 SSE 알림 전송
+   * 알림 생성 : NotificationEntity 저장 -> 커밋 후 SSE 알림 전송 및 (fan-out-on-write인 경우) 회원별
+   * NotificationListEntity 저장 (비동기)
    *
    * @param notificationCreateDto : 제목, 내용
    */
   @Transactional
   public void sendNotificationToAllMembers(UserDetails userDetails,
       NotificationCreateDto notificationCreateDto) {
-    MemberEntity memberEntity = memberRepository.findByEmail(userDetails.getUsername())
-        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-
-    if (!memberEntity.getRole().equals(UserRole.ROLE_ADMIN)) {
-      throw new CustomException(NO_AUTHORITY);
-    }
+    securityUtils.validateAdmin(userDetails);
 
     String eventId = UUID.randomUUID().toString();
 
     NotificationEntity notification = NotificationEntity.builder()
         .message(notificationCreateDto.getMessage())
         .eventId(eventId)
+        .isGlobal(isFanOutOnRead)
         .build();
 
     notificationRepository.save(notification);
 
-    List<MemberEntity> allMembers = memberRepository.findAll().stream()
-        .filter(member -> !member.getRole().equals(UserRole.ROLE_ADMIN))
-        .toList();
-
-    allMembers.forEach(member -> {
-      NotificationListEntity notificationList = NotificationListEntity.builder()
-          .member(member)
-          .notification(notification)
-          .isRead(false)
-          .build();
-      notificationListRepository.save(notificationList);
-
-      emitters.get(member.getId()).forEach(emitter -> {
-        try {
-          emitter.send(notification.getMessage() + ";" + eventId);
-        } catch (IOException e) {
-          emitter.completeWithError(e);
-        }
-      });
-    });
+    eventPublisher.publishEvent(NotificationCreatedEvent.builder()
+        .notificationId(notification.getId())
+        .message(notification.getMessage())
+        .eventId(eventId)
+        .isGlobal(notification.isGlobal())
+        .build());
   }
 
   /**
-   * 알림 목록 조회
+   * 알림 목록 조회 : 회원별 알림(NotificationListEntity) + 가입 이후 전체 알림 (읽음 여부는 마지막 읽은 알림ID로 계산)
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
@@ -158,39 +167,101 @@ public class NotificationService {
    */
   public List<NotificationListDto> getNotifications(UserDetails userDetails,
       Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     List<NotificationListEntity> notificationList = notificationListRepository.findAllByMemberId(
         memberId);
+    List<NotificationEntity> globalNotifications = notificationRepository.findAllGlobalForMember(
+        memberId);
+    long lastReadNotificationId = memberRepository.findLastReadNotificationId(memberId)
+        .orElse(0L);
 
-    List<NotificationListDto> notificationListDtos = notificationList.stream()
-        .map(notification -> NotificationListDto.builder()
-            .message(notification.getNotification().getMessage())
-            .date(notification.getNotification().getCreatedAt().toLocalDate())
-            .isRead(notification.isRead())
-            .build())
-        .toList();
+    // 알림ID 순 정렬
+    Map<Long, NotificationListDto> notificationListDtos = new TreeMap<>();
+
+    notificationList.forEach(notification -> notificationListDtos.put(
+        notification.getNotification().getId(),
+        toNotificationListDto(notification.getNotification(), notification.isRead())));
+
+    globalNotifications.forEach(notification -> notificationListDtos.put(notification.getId(),
+        toNotificationListDto(notification, notification.getId() <= lastReadNotificationId)));
 
-    markNotificationsAsRead(notificationList, memberId);
+    Long lastGlobalNotificationId = globalNotifications.isEmpty() ? null
+        : globalNotifications.get(globalNotifications.size() - 1).getId();
+    Long lastNotificationId = notificationList.stream()
+        .map(notification -> notification.getNotification().getId())
+        .max(Long::compare)
+        .orElse(null);
 
-    return notificationListDtos;
+    markAsRead(memberId, 0L, lastNotificationId, lastGlobalNotificationId);
+
+    return new ArrayList<>(notificationListDtos.values());
   }
 
   /**
-   * 알림 읽음 처리
+   * 알림 목록 조회 (커서 페이지) : 회원별 알림 + 전체 알림을 알림ID 내림차순으로 size건, 첫 페이지 조회 시 읽음 처리
    *
-   * @param notificationList List<NotificationListEntity>
-   * @param memberId         회원ID
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID
+   * @param cursor      이전 페이지의 마지막 알림ID (첫 페이지면 null)
+   * @param size        페이지 크기 (최대 MAX_PAGE_SIZE)
+   * @return NotificationPageDto : 알림 목록, 다음 커서
    */
-  @Async
-  public void markNotificationsAsRead(List<NotificationListEntity> notificationList,
-      Long memberId) {
-    notificationList.forEach(notification -> {
-      if (notification.getMember().getId().equals(memberId) && !notification.isRead()) {
-        notification.updateRead(true);
-      }
-    });
+  public NotificationPageDto getNotificationPage(UserDetails userDetails, Long memberId,
+      Long cursor, int size) {
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    Long beforeId = cursor == null ? Long.MAX_VALUE : cursor;
+    // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+    List<NotificationListDto> globalNotifications = notificationRepository.findGlobalPageForMember(
+        memberId, beforeId, limit);
+    List<NotificationListDto> notifications = new ArrayList<>(globalNotifications);
+    notifications.addAll(notificationListRepository.findPageByMemberId(memberId, beforeId, limit));
+    notifications.sort(Comparator.comparing(NotificationListDto::getNotificationId).reversed());
 
-    notificationListRepository.saveAll(notificationList);
+    boolean hasNext = notifications.size() > pageSize;
+    List<NotificationListDto> page = notifications.subList(0, Math.min(pageSize,
+        notifications.size()));
+
+    if (cursor == null && !page.isEmpty()) {
+      // 페이지에 포함된 알림만 읽음 처리 : 회원별 알림은 페이지의 알림ID 범위, 전체 알림은 가장 최근 알림ID까지
+      Long firstNotificationId = page.get(0).getNotificationId();
+      Long lastNotificationId = page.get(page.size() - 1).getNotificationId();
+      Long lastGlobalNotificationId = globalNotifications.stream()
+          .map(NotificationListDto::getNotificationId)
+          .filter(id -> id >= lastNotificationId)
+          .findFirst()
+          .orElse(null);
+      markAsRead(memberId, lastNotificationId, firstNotificationId, lastGlobalNotificationId);
+    }
+
+    return NotificationPageDto.builder()
+        .notifications(List.copyOf(page))
+        .nextCursor(hasNext ? page.get(page.size() - 1).getNotificationId() : null)
+        .build();
+  }
+
+  private void markAsRead(Long memberId, Long fromNotificationId, Long toNotificationId,
+      Long lastGlobalNotificationId) {
+    try {
+      notificationReadService.markAsRead(memberId, fromNotificationId, toNotificationId,
+          lastGlobalNotificationId);
+    } catch (TaskRejectedException e) {
+      // 읽음 처리는 다음 조회 시 다시 시도
+      log.warn("알림 읽음 처리 작업 거부 : memberId={}", memberId);
+    }
+  }
+
+  private NotificationListDto toNotificationListDto(NotificationEntity notification,
+      boolean isRead) {
+    return NotificationListDto.builder()
+        .notificationId(notification.getId())
+        .message(notification.getMessage())
+        .date(notification.getCreatedAt().toLocalDate())
+        .isRead(isRead)
+        .build();
   }
 }
@@ -54,7 +54,7 @@ public class PromiseService {
    * @return PromiseDto : 내용
    */
   public PromiseDto getPromise(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     Optional<PromiseEntity> promise = promiseRepository.findByMemberId(memberId);
 
@@ -72,7 +72,7 @@ public class PromiseService {
    */
   @Transactional
   public void updatePromise(UserDetails userDetails, Long memberId, PromiseDto promiseDto) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     PromiseEntity promise = promiseRepository.findByMemberId(memberId)
         .orElseThrow(() -> new CustomException(PROMISE_NOT_FOUND));
@@ -88,7 +88,7 @@ public class PromiseService {
    */
   @Transactional
   public void deletePromise(UserDetails userDetails, Long memberId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     PromiseEntity promise = promiseRepository.findByMemberId(memberId)
         .orElseThrow(() -> new CustomException(PROMISE_NOT_FOUND));
@@ -0,0 +1,237 @@
+package plannery.flora.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import plannery.flora.component.SecurityUtils;
+import plannery.flora.component.SearchIndex;
+import plannery.flora.component.TitleSuggester;
+import plannery.flora.dto.search.SearchDocument;
+import plannery.flora.enums.SearchType;
+import plannery.flora.repository.DiaryRepository;
+import plannery.flora.repository.EventRepository;
+import plannery.flora.repository.PromiseRepository;
+import plannery.flora.repository.TodoRepeatRepository;
+import plannery.flora.repository.TodoRepository;
+
+/**
+ * 검색 색인 생성 : 색인이 비어 있거나 search.index.rebuild-on-startup=true이면 서버 시작 시 전체 데이터로 색인 생성, 그 외에는
+ * DB와 비교하여 색인 보정. 관리자 요청으로 전체 / 회원별 재생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+  private static final int REBUILD_BATCH_SIZE = 500;
+  // 마지막 커밋 직전에 변경되었지만 커밋 후 색인에 반영된 엔티티도 다시 색인하기 위한 여유 시간
+  private static final long RECONCILE_MARGIN_MINUTES = 5;
+
+  private final SearchIndex searchIndex;
+  private final DiaryRepository diaryRepository;
+  private final EventRepository eventRepository;
+  private final PromiseRepository promiseRepository;
+  private final TodoRepository todoRepository;
+  private final TodoRepeatRepository todoRepeatRepository;
+  private final SecurityUtils securityUtils;
+  private final TitleSuggester titleSuggester;
+
+  @Value("${search.index.rebuild-on-startup:false}")
+  private boolean isRebuildOnStartup;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildOnStartup() {
+    LocalDateTime lastCommittedAt = searchIndex.getLastCommittedAt();
+
+    if (isRebuildOnStartup || searchIndex.count() == 0 || lastCommittedAt == null) {
+      rebuild();
+      return;
+    }
+
+    reconcile(lastCommittedAt.minusMinutes(RECONCILE_MARGIN_MINUTES));
+  }
+
+  /**
+   * 색인 보정 : 서버 종료 / 장애로 유실되었거나 다른 서버에서 발행된 변경을 받지 못한 경우 DB 기준으로 색인 수정
+   * <p>
+   * DB에 없는 문서 삭제, 색인에 없는 엔티티 색인, since 이후 수정된 엔티티 다시 색인
+   *
+   * @param since 이 시각 이후 수정된 엔티티를 다시 색인
+   * @return 변경한 문서 수
+   */
+  public int reconcile(LocalDateTime since) {
+    long startTime = System.currentTimeMillis();
+    Map<SearchType, Set<Long>> indexedIds = searchIndex.findAllIds();
+
+    int deleted = 0;
+    int indexed = 0;
+
+    for (SearchType type : SearchType.values()) {
+      Set<Long> entityIds = new HashSet<>(findAllIds(type));
+      Set<Long> typeIndexedIds = indexedIds.get(type);
+
+      List<Long> deletedIds = typeIndexedIds.stream()
+          .filter(id -> !entityIds.contains(id))
+          .toList();
+      searchIndex.deleteAll(type, deletedIds);
+      deleted += deletedIds.size();
+
+      List<Long> missingIds = new ArrayList<>();
+      for (Long id : entityIds) {
+        if (!typeIndexedIds.contains(id)) {
+          missingIds.add(id);
+        }
+      }
+
+      for (int from = 0; from < missingIds.size(); from += REBUILD_BATCH_SIZE) {
+        indexed += indexEntities(findAllById(type,
+            missingIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, missingIds.size()))));
+      }
+
+      indexed += indexAll(findUpdatedAfter(type, since));
+    }
+
+    searchIndex.commit();
+    titleSuggester.invalidateAll();
+    log.info("검색 색인 보정 완료 : 삭제 {}건, 색인 {}건, {}ms", deleted, indexed,
+        System.currentTimeMillis() - startTime);
+    return deleted + indexed;
+  }
+
+  /**
+   * 색인 재생성 : 관리자
+   *
+   * @param userDetails 사용자 정보
+   * @param memberId    회원ID (전체 재생성이면 null)
+   * @return 색인한 문서 수
+   */
+  public int rebuild(UserDetails userDetails, Long memberId) {
+    securityUtils.validateAdmin(userDetails);
+
+    return memberId == null ? rebuild() : rebuildMember(memberId);
+  }
+
+  /**
+   * 회원 색인 재생성 : 회원 색인 삭제 후 회원의 일기, 이벤트, 목표/다짐, 투두, 루틴 색인
+   *
+   * @param memberId 회원ID
+   * @return 색인한 문서 수
+   */
+  public int rebuildMember(Long memberId) {
+    searchIndex.deleteMember(memberId);
+
+    List<SearchDocument> searchDocuments = Stream.<List<?>>of(
+            diaryRepository.findAllByMemberId(memberId),
+            eventRepository.findAllByMemberId(memberId),
+            promiseRepository.findByMemberId(memberId).stream().toList(),
+            todoRepository.findAllByMemberId(memberId),
+            todoRepeatRepository.findAllByMemberId(memberId))
+        .flatMap(List::stream)
+        .map(SearchDocument::from)
+        .filter(Objects::nonNull)
+        .toList();
+
+    searchIndex.indexAll(searchDocuments);
+    searchIndex.commit();
+    titleSuggester.invalidate(memberId);
+
+    log.info("회원 검색 색인 생성 완료 : memberId={}, {}건", memberId, searchDocuments.size());
+    return searchDocuments.size();
+  }
+
+  /**
+   * 전체 색인 생성 : 색인 삭제 후 엔티티별로 REBUILD_BATCH_SIZE씩 조회하여 색인
+   *
+   * @return 색인한 문서 수
+   */
+  public int rebuild() {
+    long startTime = System.currentTimeMillis();
+    searchIndex.deleteAll();
+
+    int indexed = indexAll(diaryRepository::findAll)
+        + indexAll(eventRepository::findAll)
+        + indexAll(promiseRepository::findAll)
+        + indexAll(todoRepository::findAll)
+        + indexAll(todoRepeatRepository::findAll);
+
+    searchIndex.commit();
+    titleSuggester.invalidateAll();
+    log.info("검색 색인 생성 완료 : {}건, {}ms", indexed, System.currentTimeMillis() - startTime);
+    return indexed;
+  }
+
+  private int indexAll(Function<Pageable, Page<?>> findAll) {
+    int indexed = 0;
+    Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by("id"));
+
+    while (true) {
+      Page<?> page = findAll.apply(pageable);
+      indexed += indexEntities(page.getContent());
+
+      if (!page.hasNext()) {
+        return indexed;
+      }
+      pageable = page.nextPageable();
+    }
+  }
+
+  /**
+   * 배치 단위 색인 : 배치마다 searcher 한 번만 갱신
+   */
+  private int indexEntities(List<?> entities) {
+    List<SearchDocument> searchDocuments = entities.stream()
+        .map(SearchDocument::from)
+        .filter(Objects::nonNull)
+        .toList();
+
+    searchIndex.indexAll(searchDocuments);
+    return searchDocuments.size();
+  }
+
+  private List<Long> findAllIds(SearchType type) {
+    return switch (type) {
+      case DIARY -> diaryRepository.findAllIds();
+      case EVENT -> eventRepository.findAllIds();
+      case PROMISE -> promiseRepository.findAllIds();
+      case TODO -> todoRepository.findAllIds();
+      case ROUTINE -> todoRepeatRepository.findAllIds();
+    };
+  }
+
+  private List<?> findAllById(SearchType type, List<Long> ids) {
+    return switch (type) {
+      case DIARY -> diaryRepository.findAllById(ids);
+      case EVENT -> eventRepository.findAllById(ids);
+      case PROMISE -> promiseRepository.findAllById(ids);
+      case TODO -> todoRepository.findAllById(ids);
+      case ROUTINE -> todoRepeatRepository.findAllById(ids);
+    };
+  }
+
+  private Function<Pageable, Page<?>> findUpdatedAfter(SearchType type, LocalDateTime since) {
+    return switch (type) {
+      case DIARY -> pageable -> diaryRepository.findAllByUpdatedAtAfter(since, pageable);
+      case EVENT -> pageable -> eventRepository.findAllByUpdatedAtAfter(since, pageable);
+      case PROMISE -> pageable -> promiseRepository.findAllByUpdatedAtAfter(since, pageable);
+      case TODO -> pageable -> todoRepository.findAllByUpdatedAtAfter(since, pageable);
+      case ROUTINE -> pageable -> todoRepeatRepository.findAllByUpdatedAtAfter(since, pageable);
+    };
+  }
+}
@@ -1,94 +1,155 @@
 package plannery.flora.service;
 
-import static plannery.flora.exception.ErrorCode.MEMBER_NOT_FOUND;
+import static plannery.flora.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+import static plannery.flora.exception.ErrorCode.SEARCH_FAILED;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import plannery.flora.component.SearchIndex;
+import plannery.flora.component.SearchIndex.SearchHit;
+import plannery.flora.component.SecurityUtils;
+import plannery.flora.component.TitleSuggester;
+import plannery.flora.dto.search.SearchPageDto;
 import plannery.flora.dto.search.SearchResultDto;
-import plannery.flora.entity.DiaryEntity;
-import plannery.flora.entity.EventEntity;
-import plannery.flora.entity.MemberEntity;
-import plannery.flora.entity.PromiseEntity;
-import plannery.flora.entity.TodoEntity;
+import plannery.flora.enums.SearchType;
 import plannery.flora.exception.CustomException;
-import plannery.flora.repository.DiaryRepository;
-import plannery.flora.repository.EventRepository;
-import plannery.flora.repository.MemberRepository;
-import plannery.flora.repository.PromiseRepository;
-import plannery.flora.repository.TodoRepository;
 
 @Service
 @RequiredArgsConstructor
 public class SearchService {
 
-  private final DiaryRepository diaryRepository;
-  private final EventRepository eventRepository;
-  private final PromiseRepository promiseRepository;
-  private final TodoRepository todoRepository;
-  private final MemberRepository memberRepository;
+  // 검색 타입별 최대 결과 수 : 페이지 조회 가능한 최대 깊이
+  private static final int DOMAIN_LIMIT = 250;
+  private static final int MAX_PAGE_SIZE = 50;
+  private static final int MAX_SUGGESTIONS = 20;
+
+  // 관련도 내림차순, 같으면 검색 타입, ID 내림차순
+  private static final Comparator<SearchHit> RELEVANCE_ORDER = Comparator
+      .comparingDouble(SearchHit::score).reversed()
+      .thenComparing(hit -> hit.result().getPath())
+      .thenComparing(hit -> hit.result().getId(), Comparator.reverseOrder());
+
+  private final SearchIndex searchIndex;
+  private final SecurityUtils securityUtils;
+  private final ThreadPoolTaskExecutor searchExecutor;
+  private final TitleSuggester titleSuggester;
 
   /**
-   * 키워드 검색 : 일기, 이벤트, 목표/다짐, 투두
+   * 키워드 검색 : 일기, 이벤트, 목표/다짐, 투두, 루틴 (검색 타입별 최대 DOMAIN_LIMIT건, 관련도 순)
    *
    * @param userDetails 사용자 정보
    * @param keyword     키워드
    * @return List<SearchResultDto> : path, title
    */
   public List<SearchResultDto> search(UserDetails userDetails, String keyword) {
-    MemberEntity member = memberRepository.findByEmail(userDetails.getUsername())
-        .orElseThrow(() -> new CustomException(MEMBER_NOT_FOUND));
-
-    Long memberId = member.getId();
-
-    List<SearchResultDto> results = new ArrayList<>();
-
-    // 일기
-    List<DiaryEntity> diaries = diaryRepository.findByMemberIdAndTitleContainingOrMemberIdAndContentContaining(
-        memberId, keyword, memberId, keyword);
-    for (DiaryEntity diary : diaries) {
-      results.add(SearchResultDto.builder()
-          .path("캘린더 > 오늘의 일기")
-          .title(diary.getTitle())
-          .id(diary.getId())
-          .build());
-    }
+    Long memberId = securityUtils.getMemberId(userDetails);
 
-    // 이벤트
-    List<EventEntity> events = eventRepository.findByMemberIdAndTitleContainingOrMemberIdAndDescriptionContaining(
-        memberId, keyword, memberId, keyword);
-    for (EventEntity event : events) {
-      results.add(SearchResultDto.builder()
-          .path("캘린더 > 이벤트")
-          .title(event.getTitle())
-          .id(event.getId())
-          .build());
-    }
+    return searchAllTypes(memberId, keyword, DOMAIN_LIMIT).stream()
+        .map(SearchHit::result)
+        .toList();
+  }
+
+  /**
+   * 키워드 검색 (커서 페이지) : 검색 타입별로 필요한 건수만 조회한 뒤 관련도 순으로 병합
+   *
+   * @param userDetails 사용자 정보
+   * @param keyword     키워드
+   * @param cursor      이전 페이지에서 받은 커서 (첫 페이지면 null)
+   * @param size        페이지 크기 (최대 MAX_PAGE_SIZE)
+   * @return SearchPageDto : 검색 결과, 다음 커서
+   */
+  public SearchPageDto searchPage(UserDetails userDetails, String keyword, String cursor,
+      int size) {
+    Long memberId = securityUtils.getMemberId(userDetails);
+
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    int offset = decodeCursor(cursor);
+
+    // 병합 결과의 상위 offset + pageSize + 1건은 각 검색 타입의 상위 같은 건수 안에 포함됨
+    int limit = Math.min(offset + pageSize + 1, DOMAIN_LIMIT);
+    List<SearchHit> hits = searchAllTypes(memberId, keyword, limit);
+
+    List<SearchResultDto> results = hits.stream()
+        .skip(offset)
+        .limit(pageSize)
+        .map(SearchHit::result)
+        .toList();
+    boolean hasNext = hits.size() > offset + pageSize;
+
+    return SearchPageDto.builder()
+        .results(results)
+        .nextCursor(hasNext ? encodeCursor(offset + pageSize) : null)
+        .build();
+  }
 
-    // 목표/다짐
-    List<PromiseEntity> promises = promiseRepository.findByMemberIdAndContentContaining(memberId,
-        keyword);
-    for (PromiseEntity promise : promises) {
-      results.add(SearchResultDto.builder()
-          .path("대시보드 > 목표/다짐")
-          .title(promise.getContent())
-          .id(promise.getId())
-          .build());
+  /**
+   * 검색어 자동완성 : 접두어로 시작하는 제목 (제목 중간 단어 포함)
+   *
+   * @param userDetails 사용자 정보
+   * @param prefix      접두어
+   * @param size        최대 결과 수 (최대 MAX_SUGGESTIONS)
+   * @return List<String> : 제목
+   */
+  public List<String> suggest(UserDetails userDetails, String prefix, int size) {
+    Long memberId = securityUtils.getMemberId(userDetails);
+
+    return titleSuggester.suggest(memberId, prefix, Math.max(1, Math.min(size, MAX_SUGGESTIONS)));
+  }
+
+  /**
+   * 검색 타입별 검색을 병렬 실행 후 관련도 순으로 병합
+   */
+  private List<SearchHit> searchAllTypes(Long memberId, String keyword, int limit) {
+    List<CompletableFuture<List<SearchHit>>> futures = Arrays.stream(SearchType.values())
+        .map(type -> CompletableFuture.supplyAsync(
+            () -> searchIndex.search(memberId, type, keyword, limit), searchExecutor))
+        .toList();
+
+    List<SearchHit> hits = new ArrayList<>();
+    for (CompletableFuture<List<SearchHit>> future : futures) {
+      try {
+        hits.addAll(future.join());
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof CustomException customException) {
+          throw customException;
+        }
+        throw new CustomException(SEARCH_FAILED);
+      }
     }
 
-    // 투두
-    List<TodoEntity> todos = todoRepository.findByMemberIdAndTitleContainingOrMemberIdAndDescriptionContaining(
-        memberId, keyword, memberId, keyword);
-    for (TodoEntity todo : todos) {
-      results.add(SearchResultDto.builder()
-          .path("캘린더 > Todolist")
-          .title(todo.getTitle())
-          .id(todo.getId())
-          .build());
+    hits.sort(RELEVANCE_ORDER);
+    return hits;
+  }
+
+  private String encodeCursor(int offset) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(String.valueOf(offset).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private int decodeCursor(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return 0;
     }
 
-    return results;
+    try {
+      int offset = Integer.parseInt(
+          new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+      if (offset < 0 || offset >= DOMAIN_LIMIT * SearchType.values().length) {
+        throw new CustomException(INVALID_SEARCH_CURSOR);
+      }
+      return offset;
+    } catch (IllegalArgumentException e) {
+      throw new CustomException(INVALID_SEARCH_CURSOR);
+    }
   }
 }
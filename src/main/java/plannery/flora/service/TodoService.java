@@ -7,22 +7,36 @@ import static plannery.flora.exception.ErrorCode.TODO_REPEAT_NOT_FOUND;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plannery.flora.component.RoutineTodoExpander;
+import plannery.flora.component.SearchIndexListener;
 import plannery.flora.component.SecurityUtils;
+import plannery.flora.dto.todo.TodoCheckConflictDto;
 import plannery.flora.dto.todo.TodoCheckDto;
+import plannery.flora.dto.todo.TodoCompleteResultDto;
 import plannery.flora.dto.todo.TodoCreateDto;
 import plannery.flora.dto.todo.TodoResponseDto;
+import plannery.flora.dto.todo.TodoStateDto;
 import plannery.flora.dto.todo.TodoUpdateDto;
 import plannery.flora.entity.MemberEntity;
 import plannery.flora.entity.TodoEntity;
 import plannery.flora.entity.TodoRepeatEntity;
 import plannery.flora.enums.TodoType;
 import plannery.flora.exception.CustomException;
+import plannery.flora.exception.ErrorCode;
+import plannery.flora.repository.TimerRepository;
 import plannery.flora.repository.TodoRepeatRepository;
 import plannery.flora.repository.TodoRepository;
 
@@ -33,7 +47,10 @@ public class TodoService {
 
   private final TodoRepository todoRepository;
   private final TodoRepeatRepository todoRepeatRepository;
+  private final TimerRepository timerRepository;
   private final SecurityUtils securityUtils;
+  private final RoutineTodoExpander routineTodoExpander;
+  private final SearchIndexListener searchIndexListener;
 
   /**
    * 투두 생성
@@ -72,48 +89,27 @@ public class TodoService {
           .indexColor(todoCreateDto.getIndexColor())
           .startDate(todoCreateDto.getStartDate())
           .endDate(todoCreateDto.getEndDate())
-          .repeatDays(todoCreateDto.getRepeatDays())
+          .repeatDays(toRepeatDays(todoCreateDto.getRepeatDays()))
           .build();
 
+      // 날짜별 TodoEntity는 생성하지 않음 : 조회 시 TodoRepeatEntity로부터 계산
       todoRepeatRepository.save(todoRepeatEntity);
-
-      LocalDate currentDate = todoCreateDto.getStartDate();
-      LocalDate endDate = todoCreateDto.getEndDate();
-      List<DayOfWeek> repeatDays = todoCreateDto.getRepeatDays();
-
-      while (!currentDate.isAfter(endDate)) {
-        if (repeatDays.contains(currentDate.getDayOfWeek())) {
-          TodoEntity todoEntity = TodoEntity.builder()
-              .member(member)
-              .title(todoCreateDto.getTitle())
-              .description(todoCreateDto.getDescription())
-              .todoType(todoCreateDto.getTodoType())
-              .todoDate(currentDate)
-              .indexColor(todoCreateDto.getIndexColor())
-              .isCompleted(false)
-              .todoRepeat(todoRepeatEntity)
-              .build();
-
-          todoRepository.save(todoEntity);
-        }
-        currentDate = currentDate.plusDays(1);
-      }
     }
   }
 
   /**
-   * 투두 목록 조회 : todoType, isRoutine, date에 따라
+   * 투두 목록 조회 : todoType, isRoutine, date에 따라, 루틴의 경우 아직 저장되지 않은 투두는 투두ID 없이 투두 반복ID, 날짜로 반환
    *
    * @param userDetails 사용자 정보
    * @param memberId    회원ID
    * @param isRoutine   루틴 여부
    * @param todoType    투두타입 (TODO_STUDY, TODO_LIFE)
    * @param date        날짜
-   * @return List<TodoResponseDto> : 투두ID, 제목, 완료 여부
+   * @return List<TodoResponseDto> : 투두ID, 투두 반복ID, 날짜, 제목, 완료 여부
    */
   public List<TodoResponseDto> getTodos(UserDetails userDetails, Long memberId, boolean isRoutine,
       TodoType todoType, LocalDate date) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     List<TodoEntity> todoEntities;
 
@@ -123,37 +119,173 @@ public class TodoService {
       todoEntities = todoRepository.findTodosByCriteria(memberId, todoType, date, false);
     }
 
-    return todoEntities.stream()
+    List<TodoResponseDto> todos = new ArrayList<>(todoEntities.stream()
         .map(todo -> TodoResponseDto.builder()
             .todoId(todo.getId())
+            .todoRepeatId(todo.getTodoRepeat() != null ? todo.getTodoRepeat().getId() : null)
+            .todoDate(todo.getTodoDate())
             .title(todo.getTitle())
             .indexColor(todo.getIndexColor())
             .isCompleted(todo.isCompleted())
             .build())
-        .toList();
+        .toList());
+
+    if (isRoutine) {
+      routineTodoExpander.findVirtualOccurrences(memberId, todoType, date)
+          .forEach(todoRepeat -> todos.add(TodoResponseDto.builder()
+              .todoRepeatId(todoRepeat.getId())
+              .todoDate(date)
+              .title(todoRepeat.getTitle())
+              .indexColor(todoRepeat.getIndexColor())
+              .isCompleted(false)
+              .build()));
+    }
+
+    return todos;
+  }
+
+  /**
+   * 루틴 투두 저장 : 해당 날짜의 루틴 투두를 TodoEntity로 저장 (이미 저장된 경우 기존 투두ID 반환)
+   *
+   * @param userDetails  사용자 정보
+   * @param memberId     회원ID
+   * @param todoRepeatId 투두 반복ID
+   * @param date         날짜
+   * @return 투두ID
+   */
+  public Long materializeRoutineTodo(UserDetails userDetails, Long memberId, Long todoRepeatId,
+      LocalDate date) {
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    return routineTodoExpander.materialize(memberId, todoRepeatId, date).getId();
   }
 
   /**
-   * 투두 완료 체크
+   * 투두 완료 체크 : 하나라도 완료 상태가 일치하지 않으면 전체 실패
    *
    * @param userDetails   사용자 정보
    * @param memberId      회원ID
-   * @param todoCheckDtos 투두ID, 완료 여부 목록
+   * @param todoCheckDtos 투두ID(or 투두 반복ID, 날짜), 완료 여부 목록
    */
   public void completeTodos(UserDetails userDetails, Long memberId,
       List<TodoCheckDto> todoCheckDtos) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    checkTodos(memberId, todoCheckDtos, true);
+  }
+
+  /**
+   * 투두 일괄 완료 체크 : 완료 상태가 일치하는 투두만 체크하고, 일치하지 않는 투두는 충돌 목록으로 반환
+   *
+   * @param userDetails   사용자 정보
+   * @param memberId      회원ID
+   * @param todoCheckDtos 투두ID(or 투두 반복ID, 날짜), 완료 여부 목록
+   * @return TodoCompleteResultDto : 체크된 투두ID 목록, 충돌 목록
+   */
+  public TodoCompleteResultDto completeTodosInBulk(UserDetails userDetails, Long memberId,
+      List<TodoCheckDto> todoCheckDtos) {
+    securityUtils.validateMemberId(userDetails, memberId);
+
+    return checkTodos(memberId, todoCheckDtos, false);
+  }
+
+  /**
+   * 투두 완료 체크 : 소유자/완료 상태를 단일 SELECT ... FOR UPDATE로 확인 -> 완료 상태별 조건부 UPDATE로 일괄 반영
+   * (확인한 행은 커밋까지 잠겨 있으므로 다른 요청이 그 사이 완료 상태를 바꿀 수 없음)
+   * 저장되지 않은 루틴 투두는 투두 반복ID, 날짜로 TodoEntity 저장 후 체크
+   *
+   * @param memberId       회원ID
+   * @param todoCheckDtos  투두ID(or 투두 반복ID, 날짜), 완료 여부 목록
+   * @param isAllOrNothing 충돌 발생 시 예외 발생 여부
+   * @return TodoCompleteResultDto : 체크된 투두ID 목록, 충돌 목록
+   */
+  private TodoCompleteResultDto checkTodos(Long memberId, List<TodoCheckDto> todoCheckDtos,
+      boolean isAllOrNothing) {
+    List<TodoCheckConflictDto> conflicts = new ArrayList<>();
+    Map<Long, Boolean> expectedStates = new LinkedHashMap<>();
 
     for (TodoCheckDto todoCheckDto : todoCheckDtos) {
-      TodoEntity todoEntity = todoRepository.findById(todoCheckDto.getTodoId())
-          .orElseThrow(() -> new CustomException(TODO_NOT_FOUND));
+      if (todoCheckDto.getTodoId() != null) {
+        expectedStates.put(todoCheckDto.getTodoId(), todoCheckDto.isCompleted());
+        continue;
+      }
 
-      if (todoEntity.isCompleted() != todoCheckDto.isCompleted()) {
-        throw new CustomException(TODO_COMPLETED_CHECK_MISS);
+      try {
+        TodoEntity todoEntity = routineTodoExpander.resolve(memberId, null,
+            todoCheckDto.getTodoRepeatId(), todoCheckDto.getTodoDate());
+        expectedStates.put(todoEntity.getId(), todoCheckDto.isCompleted());
+      } catch (CustomException e) {
+        if (isAllOrNothing) {
+          throw e;
+        }
+        conflicts.add(toConflict(todoCheckDto.getTodoId(), todoCheckDto.getTodoRepeatId(),
+            todoCheckDto.getTodoDate(), e.getErrorCode()));
       }
+    }
 
-      todoEntity.completeCheck(!todoCheckDto.isCompleted());
+    if (expectedStates.isEmpty()) {
+      return TodoCompleteResultDto.builder()
+          .checkedTodoIds(Collections.emptyList())
+          .conflicts(conflicts)
+          .build();
+    }
+
+    Map<Long, Boolean> currentStates = todoRepository.findTodoStates(memberId,
+            expectedStates.keySet()).stream()
+        .collect(Collectors.toMap(TodoStateDto::getTodoId, TodoStateDto::isCompleted));
+
+    List<Long> todoIdsToComplete = new ArrayList<>();
+    List<Long> todoIdsToUncomplete = new ArrayList<>();
+
+    expectedStates.forEach((todoId, expectedCompleted) -> {
+      Boolean currentCompleted = currentStates.get(todoId);
+
+      if (currentCompleted == null) {
+        conflicts.add(toConflict(todoId, null, null, TODO_NOT_FOUND));
+      } else if (!currentCompleted.equals(expectedCompleted)) {
+        conflicts.add(toConflict(todoId, null, null, TODO_COMPLETED_CHECK_MISS));
+      } else if (expectedCompleted) {
+        todoIdsToUncomplete.add(todoId);
+      } else {
+        todoIdsToComplete.add(todoId);
+      }
+    });
+
+    if (isAllOrNothing && !conflicts.isEmpty()) {
+      throw new CustomException(conflicts.get(0).getErrorCode());
     }
+
+    LocalDateTime now = LocalDateTime.now();
+
+    if (!todoIdsToComplete.isEmpty()) {
+      todoRepository.updateCompleted(memberId, todoIdsToComplete, false, true, now);
+    }
+    if (!todoIdsToUncomplete.isEmpty()) {
+      todoRepository.updateCompleted(memberId, todoIdsToUncomplete, true, false, now);
+    }
+
+    List<Long> checkedTodoIds = new ArrayList<>(todoIdsToComplete);
+    checkedTodoIds.addAll(todoIdsToUncomplete);
+
+    return TodoCompleteResultDto.builder()
+        .checkedTodoIds(checkedTodoIds)
+        .conflicts(conflicts)
+        .build();
+  }
+
+  private Set<DayOfWeek> toRepeatDays(List<DayOfWeek> repeatDays) {
+    return repeatDays == null ? new HashSet<>() : new HashSet<>(repeatDays);
+  }
+
+  private TodoCheckConflictDto toConflict(Long todoId, Long todoRepeatId, LocalDate todoDate,
+      ErrorCode errorCode) {
+    return TodoCheckConflictDto.builder()
+        .todoId(todoId)
+        .todoRepeatId(todoRepeatId)
+        .todoDate(todoDate)
+        .errorCode(errorCode)
+        .message(errorCode.getMessage())
+        .build();
   }
 
   /**
@@ -165,7 +297,7 @@ public class TodoService {
    * @return todoCreateDto : 제목, 투두타입(TODO_STUDY, TODO_LIFE), 루틴 여부, 인덱스 색상, 시작날짜, 종료날짜, 설명, 반복 요일
    */
   public TodoCreateDto getTodo(UserDetails userDetails, Long memberId, Long todoId) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     TodoEntity todoEntity = todoRepository.findById(todoId)
         .orElseThrow(() -> new CustomException(TODO_NOT_FOUND));
@@ -183,7 +315,7 @@ public class TodoService {
           .startDate(todoRepeatEntity.getStartDate())
           .endDate(todoRepeatEntity.getEndDate())
           .description(todoEntity.getDescription())
-          .repeatDays(todoRepeatEntity.getRepeatDays())
+          .repeatDays(todoRepeatEntity.getRepeatDays().stream().sorted().toList())
           .build();
     } else {
       return TodoCreateDto.builder()
@@ -218,49 +350,49 @@ public class TodoService {
 
     if (todoUpdateDto.isRoutine()) {
       if (!isCurrentlyRoutine) {
-        // 비루틴 -> 루틴 : TodoRepeatEntity 생성 -> 현재 TodoEntity에 연결 -> 현재 TodoEntity를 제외한 나머지 TodoEntity 생성
-        TodoRepeatEntity newTodoRepeatEntity = TodoRepeatEntity.builder()
-            .member(todoEntity.getMember())
-            .title(todoUpdateDto.getTitle())
-            .description(todoUpdateDto.getDescription())
-            .todoType(todoUpdateDto.getTodoType())
-            .isRoutine(todoUpdateDto.isRoutine())
-            .indexColor(todoUpdateDto.getIndexColor())
-            .startDate(todoEntity.getTodoDate())
-            .endDate(todoUpdateDto.getEndDate())
-            .repeatDays(todoUpdateDto.getRepeatDays())
-            .build();
-        todoRepeatRepository.save(newTodoRepeatEntity);
+        // 비루틴 -> 루틴 : TodoRepeatEntity 생성 -> 현재 TodoEntity에 연결 (나머지 날짜의 투두는 조회 시 계산)
+        TodoRepeatEntity newTodoRepeatEntity = createTodoRepeatEntity(member, todoUpdateDto,
+            todoEntity.getTodoDate());
 
         todoEntity.updateTodoRepeat(newTodoRepeatEntity);
         updateTodoEntity(todoEntity, todoUpdateDto);
-
-        createTodosForRepeatDays(todoUpdateDto, member, newTodoRepeatEntity,
-            todoEntity.getTodoDate());
       } else {
-        // 루틴 -> 루틴 : TodoRepeatEntity 수정 -> 현재 TodoEntity는 내용 수정 -> 현재 TodoEntity의 todoDate 이후의 TodoEntity들은 전체 삭제 후 재생성
+        // 루틴 -> 루틴 : todoDate가 루틴 시작날짜 이후라면 기존 루틴은 todoDate 전날 종료 후 새 TodoRepeatEntity로 분리, 아니라면 TodoRepeatEntity 수정
+        // -> 현재 TodoEntity의 todoDate 이후 저장된 TodoEntity 삭제 (일괄 삭제 시 영속성 컨텍스트가 초기화되므로 수정 후 삭제)
         TodoRepeatEntity todoRepeatEntity = todoEntity.getTodoRepeat();
-
-        todoRepeatEntity.updateTodoRepeat(todoUpdateDto.getTitle(), todoUpdateDto.getDescription(),
-            todoUpdateDto.getTodoType(), todoUpdateDto.getIndexColor(), todoUpdateDto.getEndDate(),
-            todoUpdateDto.getRepeatDays());
+        LocalDate baseDate = todoEntity.getTodoDate();
+
+        if (baseDate.isAfter(todoRepeatEntity.getStartDate())) {
+          todoRepeatEntity.updateEndDate(baseDate.minusDays(1));
+          todoEntity.updateTodoRepeat(createTodoRepeatEntity(member, todoUpdateDto, baseDate));
+        } else {
+          todoRepeatEntity.updateTodoRepeat(todoUpdateDto.getTitle(),
+              todoUpdateDto.getDescription(), todoUpdateDto.getTodoType(),
+              todoUpdateDto.getIndexColor(), todoUpdateDto.getEndDate(),
+              todoUpdateDto.getRepeatDays());
+        }
 
         updateTodoEntity(todoEntity, todoUpdateDto);
-
-        deleteFutureTodos(todoRepeatEntity, todoEntity.getTodoDate());
-        createTodosForRepeatDays(todoUpdateDto, todoEntity.getMember(), todoRepeatEntity,
-            todoEntity.getTodoDate());
+        deleteFutureTodos(todoRepeatEntity, baseDate);
       }
     } else {
       if (!isCurrentlyRoutine) {
         // 비루틴 -> 비루틴 : title, todoType, indexColor, description 수정
         updateTodoEntity(todoEntity, todoUpdateDto);
       } else {
-        // 루틴 -> 비루틴 : TodoEntity 수정 -> 현재 TodoEntity 외의 TodoEntity들은 전부 삭제
+        // 루틴 -> 비루틴 : TodoEntity 수정 후 루틴에서 분리 -> 기존 루틴은 todoDate 전날 종료, 이후 저장된 TodoEntity 삭제
+        // (todoDate가 루틴의 첫 날짜라면 남는 반복이 없으므로 루틴 삭제)
         TodoRepeatEntity todoRepeatEntity = todoEntity.getTodoRepeat();
 
         updateTodoEntity(todoEntity, todoUpdateDto);
-        deleteFutureTodos(todoRepeatEntity, todoEntity.getTodoDate());
+        todoEntity.updateTodoRepeat(null);
+
+        if (todoEntity.getTodoDate().isAfter(todoRepeatEntity.getStartDate())) {
+          todoRepeatEntity.updateEndDate(todoEntity.getTodoDate().minusDays(1));
+          deleteFutureTodos(todoRepeatEntity, todoEntity.getTodoDate());
+        } else {
+          deleteAllRoutineTodos(todoRepeatEntity);
+        }
       }
     }
   }
@@ -278,49 +410,41 @@ public class TodoService {
   }
 
   /**
-   * baseDate 이후의 TodoEntity 삭제
+   * baseDate 이후의 TodoEntity 삭제 : 연결된 TimerEntity 삭제 후 단일 DELETE 쿼리로 일괄 삭제
    *
    * @param todoRepeatEntity
    * @param baseDate
    */
   private void deleteFutureTodos(TodoRepeatEntity todoRepeatEntity, LocalDate baseDate) {
-    List<TodoEntity> existingTodos = todoRepository.findAllByTodoRepeat(todoRepeatEntity);
-    List<TodoEntity> todosToDelete = existingTodos.stream()
-        .filter(todo -> todo.getTodoDate().isAfter(baseDate))
-        .toList();
-    todoRepository.deleteAll(todosToDelete);
+    timerRepository.deleteAllByTodoRepeatAfter(todoRepeatEntity, baseDate);
+    todoRepository.deleteAllByTodoRepeatAfter(todoRepeatEntity, baseDate);
+    searchIndexListener.onTodosDeleted(todoRepeatEntity.getMember().getId(),
+        todoRepeatEntity.getId(), baseDate.plusDays(1));
   }
 
   /**
-   * TodoRepeatEntity에 따른 TodoEntity 생성 : excludedDate 이후
+   * TodoRepeatEntity 생성 : startDate부터 반복
    *
-   * @param todoUpdateDto
    * @param member
-   * @param todoRepeatEntity
-   * @param excludedDate
+   * @param todoUpdateDto
+   * @param startDate
+   * @return TodoRepeatEntity
    */
-  private void createTodosForRepeatDays(TodoUpdateDto todoUpdateDto, MemberEntity member,
-      TodoRepeatEntity todoRepeatEntity, LocalDate excludedDate) {
-    LocalDate currentDate = excludedDate;
-    LocalDate endDate = todoUpdateDto.getEndDate();
-    List<DayOfWeek> repeatDays = todoUpdateDto.getRepeatDays();
-
-    while (!currentDate.isAfter(endDate)) {
-      if (repeatDays.contains(currentDate.getDayOfWeek()) && !currentDate.equals(excludedDate)) {
-        TodoEntity newTodoEntity = TodoEntity.builder()
-            .member(member)
-            .title(todoUpdateDto.getTitle())
-            .description(todoUpdateDto.getDescription())
-            .todoType(todoUpdateDto.getTodoType())
-            .todoDate(currentDate)
-            .indexColor(todoUpdateDto.getIndexColor())
-            .isCompleted(false)
-            .todoRepeat(todoRepeatEntity)
-            .build();
-        todoRepository.save(newTodoEntity);
-      }
-      currentDate = currentDate.plusDays(1);
-    }
+  private TodoRepeatEntity createTodoRepeatEntity(MemberEntity member,
+      TodoUpdateDto todoUpdateDto, LocalDate startDate) {
+    TodoRepeatEntity todoRepeatEntity = TodoRepeatEntity.builder()
+        .member(member)
+        .title(todoUpdateDto.getTitle())
+        .description(todoUpdateDto.getDescription())
+        .todoType(todoUpdateDto.getTodoType())
+        .isRoutine(todoUpdateDto.isRoutine())
+        .indexColor(todoUpdateDto.getIndexColor())
+        .startDate(startDate)
+        .endDate(todoUpdateDto.getEndDate())
+        .repeatDays(toRepeatDays(todoUpdateDto.getRepeatDays()))
+        .build();
+
+    return todoRepeatRepository.save(todoRepeatEntity);
   }
 
   /**
@@ -332,7 +456,7 @@ public class TodoService {
    * @param isDeleteAll 전체 삭제 여부
    */
   public void deleteTodo(UserDetails userDetails, Long memberId, Long todoId, boolean isDeleteAll) {
-    securityUtils.validateUserDetails(userDetails, memberId);
+    securityUtils.validateMemberId(userDetails, memberId);
 
     TodoEntity todoEntity = todoRepository.findById(todoId)
         .orElseThrow(() -> new CustomException(TODO_NOT_FOUND));
@@ -344,7 +468,8 @@ public class TodoService {
         // 루틴 : 전체 삭제
         deleteAllRoutineTodos(todoEntity.getTodoRepeat());
       } else {
-        // 루틴 : 개별 삭제
+        // 루틴 : 개별 삭제 -> 조회 시 다시 계산되지 않도록 제외 날짜에 추가
+        todoEntity.getTodoRepeat().addExcludedDate(todoEntity.getTodoDate());
         todoRepository.delete(todoEntity);
       }
     } else {
@@ -354,13 +479,16 @@ public class TodoService {
   }
 
   /**
-   * 루틴 전체 삭제
+   * 루틴 전체 삭제 : 연결된 TimerEntity, TodoEntity 일괄 삭제 후 TodoRepeatEntity 삭제
    *
    * @param todoRepeatEntity
    */
   private void deleteAllRoutineTodos(TodoRepeatEntity todoRepeatEntity) {
-    List<TodoEntity> existingTodos = todoRepository.findAllByTodoRepeat(todoRepeatEntity);
-    todoRepository.deleteAll(existingTodos);
-    todoRepeatRepository.delete(todoRepeatEntity);
+    timerRepository.deleteAllByTodoRepeat(todoRepeatEntity);
+    todoRepository.deleteAllByTodoRepeat(todoRepeatEntity);
+    searchIndexListener.onTodosDeleted(todoRepeatEntity.getMember().getId(),
+        todoRepeatEntity.getId(), null);
+    // 일괄 삭제로 todoRepeatEntity가 준영속 상태이므로 ID로 다시 조회하여 삭제
+    todoRepeatRepository.deleteById(todoRepeatEntity.getId());
   }
 }
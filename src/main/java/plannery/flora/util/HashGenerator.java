@@ -0,0 +1,28 @@
+package plannery.flora.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class HashGenerator {
+
+  private static final String SHA_256 = "SHA-256";
+
+  /**
+   * SHA-256 해시 생성 : URL-safe Base64 (패딩 없음, 43자)
+   *
+   * @param value 원문 (e.g. JWT 토큰)
+   * @return 해시 문자열
+   */
+  public static String sha256(String value) {
+    try {
+      byte[] digest = MessageDigest.getInstance(SHA_256)
+          .digest(value.getBytes(StandardCharsets.UTF_8));
+
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
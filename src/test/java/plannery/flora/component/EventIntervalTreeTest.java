@@ -0,0 +1,115 @@
+package plannery.flora.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import plannery.flora.component.EventIntervalTree.Span;
+
+class EventIntervalTreeTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  @Test
+  void findOverlapping_includesLongEventStartingBeforeShortOnes() {
+    // 긴 이벤트가 왼쪽 하위 트리에 있어도 maxEnds 덕분에 조회됨
+    EventIntervalTree tree = EventIntervalTree.of(List.of(
+        span(1L, BASE, BASE.plusDays(30)),
+        span(2L, BASE.plusDays(1), BASE.plusDays(1).plusHours(1)),
+        span(3L, BASE.plusDays(2), BASE.plusDays(2).plusHours(1)),
+        span(4L, BASE.plusDays(3), BASE.plusDays(3).plusHours(1)),
+        span(5L, BASE.plusDays(40), BASE.plusDays(41))));
+
+    List<Span> result = tree.findOverlapping(BASE.plusDays(10), BASE.plusDays(11));
+
+    assertThat(result).extracting(Span::eventId).containsExactly(1L);
+  }
+
+  @Test
+  void findOverlapping_prunesSubtreesEndingBeforeFrom() {
+    EventIntervalTree tree = EventIntervalTree.of(List.of(
+        span(1L, BASE, BASE.plusHours(1)),
+        span(2L, BASE.plusDays(1), BASE.plusDays(1).plusHours(1)),
+        span(3L, BASE.plusDays(2), BASE.plusDays(2).plusHours(1))));
+
+    assertThat(tree.findOverlapping(BASE.plusDays(5), BASE.plusDays(6))).isEmpty();
+  }
+
+  @Test
+  void findOverlapping_includesBoundaries() {
+    EventIntervalTree tree = EventIntervalTree.of(List.of(
+        span(1L, BASE, BASE.plusHours(1)),
+        span(2L, BASE.plusHours(2), BASE.plusHours(3))));
+
+    // 종료일시 == from, 시작일시 == to 인 이벤트 포함
+    assertThat(tree.findOverlapping(BASE.plusHours(1), BASE.plusHours(2)))
+        .extracting(Span::eventId)
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  void findOverlapping_matchesLinearScan() {
+    Random random = new Random(42);
+    List<Span> spans = new ArrayList<>();
+
+    for (long id = 1; id <= 500; id++) {
+      LocalDateTime start = BASE.plusHours(random.nextInt(24 * 365));
+      // 대부분 짧은 이벤트, 일부 긴 이벤트
+      int hours = random.nextInt(10) == 0 ? random.nextInt(24 * 90) : random.nextInt(48);
+      spans.add(span(id, start, start.plusHours(hours)));
+    }
+
+    EventIntervalTree tree = EventIntervalTree.of(spans);
+
+    for (int i = 0; i < 200; i++) {
+      LocalDateTime from = BASE.plusHours(random.nextInt(24 * 365));
+      LocalDateTime to = from.plusHours(random.nextInt(24 * 31));
+
+      List<Long> expected = spans.stream()
+          .filter(span -> !span.startDateTime().isAfter(to)
+              && !span.endDateTime().isBefore(from))
+          .sorted(Comparator.comparing(Span::startDateTime).thenComparing(Span::eventId))
+          .map(Span::eventId)
+          .toList();
+
+      assertThat(tree.findOverlapping(from, to)).extracting(Span::eventId)
+          .containsExactlyElementsOf(expected);
+    }
+  }
+
+  @Test
+  void withAndWithout_returnNewTreeWithoutChangingOriginal() {
+    EventIntervalTree tree = EventIntervalTree.of(List.of(
+        span(1L, BASE, BASE.plusHours(1)),
+        span(2L, BASE.plusDays(1), BASE.plusDays(1).plusHours(1))));
+
+    EventIntervalTree moved = tree.with(
+        span(1L, BASE.plusDays(10), BASE.plusDays(10).plusHours(1)));
+    EventIntervalTree removed = tree.without(2L);
+
+    assertThat(tree.findOverlapping(BASE, BASE.plusDays(20))).extracting(Span::eventId)
+        .containsExactly(1L, 2L);
+    assertThat(moved.size()).isEqualTo(2);
+    assertThat(moved.findOverlapping(BASE, BASE.plusHours(2))).isEmpty();
+    assertThat(moved.findOverlapping(BASE.plusDays(10), BASE.plusDays(11)))
+        .extracting(Span::eventId)
+        .containsExactly(1L);
+    assertThat(removed.findOverlapping(BASE, BASE.plusDays(20))).extracting(Span::eventId)
+        .containsExactly(1L);
+  }
+
+  @Test
+  void findOverlapping_emptyTree() {
+    assertThat(EventIntervalTree.of(List.of()).findOverlapping(BASE, BASE.plusDays(1)))
+        .isEmpty();
+  }
+
+  private Span span(Long eventId, LocalDateTime start, LocalDateTime end) {
+    return new Span(eventId, "event" + eventId, start, start, "RED", false, 0, 0)
+        .withPeriod(start, end);
+  }
+}
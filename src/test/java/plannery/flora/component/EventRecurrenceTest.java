@@ -0,0 +1,153 @@
+package plannery.flora.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import plannery.flora.component.EventIntervalTree.Span;
+import plannery.flora.enums.RepeatFrequency;
+
+class EventRecurrenceTest {
+
+  @Test
+  void monthly_skipsMonthsWithoutStartDay() {
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2024, 1, 31, 10, 0),
+        RepeatFrequency.MONTHLY, 1, List.of(), null, null, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 1, 1, 0, 0),
+        LocalDateTime.of(2024, 6, 30, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime).containsExactly(
+        LocalDateTime.of(2024, 1, 31, 10, 0),
+        LocalDateTime.of(2024, 3, 31, 10, 0),
+        LocalDateTime.of(2024, 5, 31, 10, 0));
+  }
+
+  @Test
+  void yearly_skipsYearsWithoutFebruary29() {
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2020, 2, 29, 10, 0),
+        RepeatFrequency.YEARLY, 1, List.of(), null, null, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2020, 1, 1, 0, 0),
+        LocalDateTime.of(2028, 12, 31, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime).containsExactly(
+        LocalDateTime.of(2020, 2, 29, 10, 0),
+        LocalDateTime.of(2024, 2, 29, 10, 0),
+        LocalDateTime.of(2028, 2, 29, 10, 0));
+  }
+
+  @Test
+  void count_includesExcludedDates() {
+    // 제외 날짜도 반복 횟수에 포함 (RRULE COUNT, EXDATE)
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2024, 3, 1, 10, 0),
+        RepeatFrequency.DAILY, 1, List.of(), null, 5, Set.of(LocalDate.of(2024, 3, 2)));
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 3, 1, 0, 0),
+        LocalDateTime.of(2024, 3, 31, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime).containsExactly(
+        LocalDateTime.of(2024, 3, 1, 10, 0),
+        LocalDateTime.of(2024, 3, 3, 10, 0),
+        LocalDateTime.of(2024, 3, 4, 10, 0),
+        LocalDateTime.of(2024, 3, 5, 10, 0));
+  }
+
+  @Test
+  void count_countsOccurrencesBeforeQueryPeriod() {
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2024, 3, 1, 10, 0),
+        RepeatFrequency.DAILY, 1, List.of(), null, 5, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 3, 4, 0, 0),
+        LocalDateTime.of(2024, 3, 31, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime).containsExactly(
+        LocalDateTime.of(2024, 3, 4, 10, 0),
+        LocalDateTime.of(2024, 3, 5, 10, 0));
+  }
+
+  @Test
+  void unbounded_jumpsToQueryPeriod() {
+    // 하루를 넘기는 반복 : 조회 시작 전날 시작한 반복도 포함
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2000, 1, 1, 23, 0),
+        RepeatFrequency.DAILY, 1, List.of(), null, null, Set.of(), 2);
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 5, 10, 0, 0),
+        LocalDateTime.of(2024, 5, 11, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime).containsExactly(
+        LocalDateTime.of(2024, 5, 9, 23, 0),
+        LocalDateTime.of(2024, 5, 10, 23, 0),
+        LocalDateTime.of(2024, 5, 11, 23, 0));
+    assertThat(occurrences).extracting(Span::endDateTime).containsExactly(
+        LocalDateTime.of(2024, 5, 10, 1, 0),
+        LocalDateTime.of(2024, 5, 11, 1, 0),
+        LocalDateTime.of(2024, 5, 12, 1, 0));
+  }
+
+  @Test
+  void unbounded_monthlyIntervalJumpsToQueryPeriod() {
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2023, 1, 31, 10, 0),
+        RepeatFrequency.MONTHLY, 2, List.of(), null, null, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 3, 1, 0, 0),
+        LocalDateTime.of(2024, 3, 31, 23, 59));
+
+    assertThat(occurrences).extracting(Span::startDateTime)
+        .containsExactly(LocalDateTime.of(2024, 3, 31, 10, 0));
+  }
+
+  @Test
+  void weekly_repeatsOnRepeatDaysEveryInterval() {
+    // 2024-05-01 수요일 시작, 2주마다 월/수/금
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2024, 5, 1, 10, 0),
+        RepeatFrequency.WEEKLY, 2,
+        List.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+        LocalDate.of(2024, 5, 29), null, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 4, 1, 0, 0),
+        LocalDateTime.of(2024, 6, 30, 23, 59));
+
+    assertThat(occurrences).extracting(span -> span.startDateTime().toLocalDate())
+        .containsExactly(
+            LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3),
+            LocalDate.of(2024, 5, 13), LocalDate.of(2024, 5, 15), LocalDate.of(2024, 5, 17),
+            LocalDate.of(2024, 5, 27), LocalDate.of(2024, 5, 29));
+  }
+
+  @Test
+  void expand_keepsEventFields() {
+    EventRecurrence recurrence = recurrence(LocalDateTime.of(2024, 1, 1, 10, 0),
+        RepeatFrequency.DAILY, 1, List.of(), null, null, Set.of());
+
+    List<Span> occurrences = recurrence.expand(LocalDateTime.of(2024, 1, 2, 0, 0),
+        LocalDateTime.of(2024, 1, 2, 23, 59));
+
+    assertThat(occurrences).singleElement().satisfies(span -> {
+      assertThat(span.eventId()).isEqualTo(1L);
+      assertThat(span.title()).isEqualTo("event");
+      assertThat(span.indexColor()).isEqualTo("RED");
+    });
+  }
+
+  private EventRecurrence recurrence(LocalDateTime start, RepeatFrequency frequency,
+      int interval, List<DayOfWeek> repeatDays, LocalDate until, Integer count,
+      Set<LocalDate> excludedDates) {
+    return recurrence(start, frequency, interval, repeatDays, until, count, excludedDates, 1);
+  }
+
+  private EventRecurrence recurrence(LocalDateTime start, RepeatFrequency frequency,
+      int interval, List<DayOfWeek> repeatDays, LocalDate until, Integer count,
+      Set<LocalDate> excludedDates, int hours) {
+    Span first = new Span(1L, "event", start, start, "RED", false, 0, 0)
+        .withPeriod(start, start.plusHours(hours));
+
+    return new EventRecurrence(first, frequency, interval,
+        repeatDays.isEmpty() ? List.of(start.getDayOfWeek()) : repeatDays, until, count,
+        excludedDates);
+  }
+}